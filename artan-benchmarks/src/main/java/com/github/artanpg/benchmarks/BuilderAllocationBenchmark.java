@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.EqualsBuilder;
+import com.github.artanpg.core.utils.builder.HashCodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the builders created for every call with the static
+ * {@code combine} methods and the builders reused through {@code reset()}.
+ * <p>The allocations are reported by the gc profiler, as
+ * {@code gc.alloc.rate.norm}:
+ * <pre>
+ * java -jar benchmarks.jar BuilderAllocationBenchmark -prof gc
+ * </pre>
+ * The forks run without escape analysis, as at the call sites where it
+ * fails, so that the builders created for every call are not scalar
+ * replaced.
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class BuilderAllocationBenchmark {
+
+    private final HashCodeBuilder hashCodeBuilder = HashCodeBuilder.of();
+
+    private final EqualsBuilder equalsBuilder = EqualsBuilder.of();
+
+    private final long[] lhsCodes = {1L, 2L, 3L};
+
+    private final long[] rhsCodes = {1L, 2L, 3L};
+
+    private int id = 42;
+
+    private double score = 0.5;
+
+    private String name = "name";
+
+    @Benchmark
+    public int hashCodeBuilderOf() {
+        return HashCodeBuilder.of().append(id).append(score).append(name).append(lhsCodes).toHashCode();
+    }
+
+    @Benchmark
+    public int hashCodeBuilderReset() {
+        return hashCodeBuilder.reset().append(id).append(score).append(name).append(lhsCodes).toHashCode();
+    }
+
+    @Benchmark
+    public int hashCodeCombine() {
+        int hash = HashCodeBuilder.INITIAL_HASH;
+        hash = HashCodeBuilder.combine(hash, id);
+        hash = HashCodeBuilder.combine(hash, score);
+        hash = HashCodeBuilder.combine(hash, name);
+        return HashCodeBuilder.combine(hash, lhsCodes);
+    }
+
+    @Benchmark
+    public boolean equalsBuilderOf() {
+        return EqualsBuilder.of().append(id, 42).append(score, 0.5).append(name, "name")
+                .append(lhsCodes, rhsCodes).build();
+    }
+
+    @Benchmark
+    public boolean equalsBuilderReset() {
+        return equalsBuilder.reset().append(id, 42).append(score, 0.5).append(name, "name")
+                .append(lhsCodes, rhsCodes).build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.CachedHashCode;
+import com.github.artanpg.core.utils.builder.HashCodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code HashMap} lookups by keys which compute their hash code
+ * with {@link HashCodeBuilder} on every call with the same keys extending
+ * {@link CachedHashCode}.
+ * <p>The lookups are made with equal copies of the keys in the map, reused
+ * from one lookup to the next as keys held by callers are, so that
+ * {@code equals} compares the fields instead of stopping at the identity.
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CachedHashCodeBenchmark {
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private Map<ComputedKey, Integer> computedMap;
+
+    private Map<CachedKey, Integer> cachedMap;
+
+    private ComputedKey[] computedKeys;
+
+    private CachedKey[] cachedKeys;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        computedMap = new HashMap<>();
+        cachedMap = new HashMap<>();
+        computedKeys = new ComputedKey[size];
+        cachedKeys = new CachedKey[size];
+        for (int i = 0; i < size; i++) {
+            int[] codes = new int[16];
+            Arrays.fill(codes, i);
+            computedMap.put(new ComputedKey(i, "order-" + i, codes.clone()), i);
+            cachedMap.put(new CachedKey(i, "order-" + i, codes.clone()), i);
+            computedKeys[i] = new ComputedKey(i, "order-" + i, codes.clone());
+            cachedKeys[i] = new CachedKey(i, "order-" + i, codes.clone());
+        }
+    }
+
+    @Benchmark
+    public Integer computedHashCode() {
+        index = (index + 1) & (size - 1);
+        return computedMap.get(computedKeys[index]);
+    }
+
+    @Benchmark
+    public Integer cachedHashCode() {
+        index = (index + 1) & (size - 1);
+        return cachedMap.get(cachedKeys[index]);
+    }
+
+    static final class ComputedKey {
+
+        private final long tenantId;
+
+        private final String number;
+
+        private final int[] codes;
+
+        ComputedKey(long tenantId, String number, int[] codes) {
+            this.tenantId = tenantId;
+            this.number = number;
+            this.codes = codes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ComputedKey key && tenantId == key.tenantId && number.equals(key.number)
+                    && Arrays.equals(codes, key.codes);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.of().append(tenantId).append(number).append(codes).toHashCode();
+        }
+    }
+
+    static final class CachedKey extends CachedHashCode {
+
+        private final long tenantId;
+
+        private final String number;
+
+        private final int[] codes;
+
+        CachedKey(long tenantId, String number, int[] codes) {
+            this.tenantId = tenantId;
+            this.number = number;
+            this.codes = codes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CachedKey key && tenantId == key.tenantId && number.equals(key.number)
+                    && Arrays.equals(codes, key.codes);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return HashCodeBuilder.of().append(tenantId).append(number).append(codes).toHashCode();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.HashCodeBuilder;
+import com.github.artanpg.core.utils.builder.HashMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the distribution of the hash codes of {@link HashMode#CLASSIC}
+ * and {@link HashMode#MIX64} for composite keys of close values, a grid of
+ * tenant ids by entity ids. The classic polynomial maps the key
+ * {@code (tenant, id)} to the same hash code as {@code (tenant + 1, id - 37)},
+ * so the grid collides into a few thousand hash codes, and the lookups in a
+ * {@link HashMap} walk long bins. The keys are looked up in a shuffled
+ * order, so that the sequential hash codes of the classic polynomial do not
+ * gain from the locality of the table.
+ * <pre>
+ * java -jar benchmarks.jar HashDistributionBenchmark
+ * </pre>
+ * The number of distinct hash codes and of keys landing in an occupied
+ * bucket of a table of the size of the map are printed by each fork.
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashDistributionBenchmark {
+
+    @Param({"CLASSIC", "MIX64"})
+    private HashMode mode;
+
+    @Param({"256"})
+    private int side;
+
+    private Key[] keys;
+
+    private Map<Key, Key> map;
+
+    private int tenant = 3;
+
+    private int id = 42;
+
+    @Setup
+    public void setUp() {
+        keys = new Key[side * side];
+        map = new HashMap<>(keys.length * 2);
+        for (int tenant = 0; tenant < side; tenant++) {
+            for (int id = 0; id < side; id++) {
+                Key key = new Key(mode, tenant, id);
+                keys[tenant * side + id] = key;
+                map.put(key, key);
+            }
+        }
+        int buckets = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        BitSet hashes = new BitSet();
+        BitSet occupied = new BitSet(buckets);
+        int collisions = 0;
+        for (Key key : keys) {
+            int hash = key.hashCode();
+            hashes.set(hash & Integer.MAX_VALUE);
+            int bucket = (hash ^ hash >>> 16) & (buckets - 1);
+            if (occupied.get(bucket)) {
+                collisions++;
+            }
+            occupied.set(bucket);
+        }
+        Collections.shuffle(Arrays.asList(keys), new Random(side));
+        System.out.printf("%s: %d distinct hash codes, %d bucket collisions of %d keys%n",
+                mode, hashes.cardinality(), collisions, keys.length);
+    }
+
+    @Benchmark
+    public int hashCodeOfKey() {
+        return HashCodeBuilder.of(mode).append(tenant).append(id).toHashCode();
+    }
+
+    @Benchmark
+    public int lookupAll() {
+        int found = 0;
+        for (Key key : keys) {
+            if (map.get(key) == key) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * A composite key of close values, hashed by the given mode.
+     */
+    private static final class Key {
+
+        private final int tenant;
+
+        private final int id;
+
+        private final int hash;
+
+        private Key(HashMode mode, int tenant, int id) {
+            this.tenant = tenant;
+            this.id = id;
+            this.hash = HashCodeBuilder.of(mode).append(tenant).append(id).toHashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.tenant == tenant && key.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
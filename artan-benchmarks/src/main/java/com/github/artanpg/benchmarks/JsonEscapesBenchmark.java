@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import com.github.artanpg.core.utils.builder.strategy.Utf8JsonToStringStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the json {@code toString} of strings without characters to
+ * escape, which are copied in bulk, with strings whose characters are
+ * escaped one by one:
+ * <ul>
+ *     <li>{@code plain}: ASCII text without characters to escape</li>
+ *     <li>{@code tail}: the same text with a quote at its end, so that the
+ *     whole text is scanned before the first escape</li>
+ *     <li>{@code dense}: quotes, backslashes and control characters in every
+ *     few characters</li>
+ *     <li>{@code unicode}: non-ASCII text, which json leaves unescaped</li>
+ * </ul>
+ * <pre>
+ * java -jar benchmarks.jar JsonEscapesBenchmark
+ * </pre>
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonEscapesBenchmark {
+
+    @Param({"plain", "tail", "dense", "unicode"})
+    private String kind;
+
+    @Param({"16", "1024"})
+    private int length;
+
+    private final Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of();
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        String unit = switch (kind) {
+            case "dense" -> "a\"b\\c\n";
+            case "unicode" -> "\u0633\u0644\u0627\u0645 ";
+            default -> "abcdefgh";
+        };
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(unit);
+        }
+        builder.setLength(length);
+        if ("tail".equals(kind)) {
+            builder.setCharAt(length - 1, '"');
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public String jsonStyle() {
+        return ToStringBuilder.jsonStyle().append("text", text).toString();
+    }
+
+    @Benchmark
+    public byte[] utf8JsonStyle() {
+        ToStringBuilder.costumeStyle(utf8).append("text", text);
+        return utf8.toBytes();
+    }
+}
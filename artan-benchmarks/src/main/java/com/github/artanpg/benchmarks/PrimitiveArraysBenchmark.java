@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.EqualsBuilder;
+import com.github.artanpg.core.utils.builder.HashCodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive-array hashes and equality of the builders with
+ * {@link Arrays}, from 16 to one million elements.
+ * <p>{@link Scalar} runs without {@code jdk.incubator.vector}, where the
+ * builders use the unrolled scalar polynomial, and {@link Vector} adds the
+ * module to the forked JVM, where they use the Vector API. The Vector API
+ * code is compiled into {@code artan-core} only by its {@code vector}
+ * profile:
+ * <pre>
+ * mvn -Pvector package
+ * java -jar artan-benchmarks/target/benchmarks.jar PrimitiveArraysBenchmark
+ * </pre>
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class PrimitiveArraysBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    private int size;
+
+    private byte[] bytes;
+
+    private int[] ints;
+
+    private double[] lhs;
+
+    private double[] rhs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bytes = new byte[size];
+        random.nextBytes(bytes);
+        ints = random.ints(size).toArray();
+        lhs = random.doubles(size).toArray();
+        rhs = lhs.clone();
+    }
+
+    @Benchmark
+    public int bytesHashCodeArrays() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Benchmark
+    public int bytesHashCodeBuilder() {
+        return HashCodeBuilder.of().append(bytes).toHashCode();
+    }
+
+    @Benchmark
+    public int intsHashCodeArrays() {
+        return Arrays.hashCode(ints);
+    }
+
+    @Benchmark
+    public int intsHashCodeBuilder() {
+        return HashCodeBuilder.of().append(ints).toHashCode();
+    }
+
+    @Benchmark
+    public int doublesHashCodeArrays() {
+        return Arrays.hashCode(lhs);
+    }
+
+    @Benchmark
+    public int doublesHashCodeBuilder() {
+        return HashCodeBuilder.of().append(lhs).toHashCode();
+    }
+
+    @Benchmark
+    public boolean doublesEqualsArrays() {
+        return Arrays.equals(lhs, rhs);
+    }
+
+    @Benchmark
+    public boolean doublesEqualsBuilder() {
+        return EqualsBuilder.of().append(lhs, rhs).build();
+    }
+
+    @Fork(2)
+    public static class Scalar extends PrimitiveArraysBenchmark {
+    }
+
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public static class Vector extends PrimitiveArraysBenchmark {
+    }
+}
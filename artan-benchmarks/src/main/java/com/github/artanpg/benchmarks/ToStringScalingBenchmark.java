@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.benchmarks;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code toString} of 10 up to 10,000 fields, and of arrays of
+ * as many elements, to show that the time per field or element stays the
+ * same as their number grows, i.e. that the separators and the elements are
+ * appended in linear time:
+ * <pre>
+ * java -jar benchmarks.jar ToStringScalingBenchmark
+ * </pre>
+ * The score divided by {@code size} is the time per field or element. It
+ * steps up past the 1024 field names whose prefixes the style caches, and
+ * with the cache misses of the larger inputs, but it does not grow with the
+ * number of fields already appended.
+ *
+ * @author Mohammad Yazdian
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ToStringScalingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private String[] fieldNames;
+
+    private int[] values;
+
+    private Object[] objects;
+
+    @Setup
+    public void setUp() {
+        fieldNames = new String[size];
+        values = new int[size];
+        objects = new Object[size];
+        for (int i = 0; i < size; i++) {
+            fieldNames[i] = "field" + i;
+            values[i] = i;
+            objects[i] = i;
+        }
+    }
+
+    @Benchmark
+    public String fields() {
+        ToStringBuilder builder = ToStringBuilder.jsonStyle();
+        for (int i = 0; i < size; i++) {
+            builder.append(fieldNames[i], values[i]);
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String intArray() {
+        return ToStringBuilder.jsonStyle().append("values", values).toString();
+    }
+
+    @Benchmark
+    public String objectArray() {
+        return ToStringBuilder.jsonStyle().append("values", objects).toString();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks of the builders, run from the shaded jar with
+ * {@code java -jar artan-benchmarks/target/benchmarks.jar}.
+ */
+package com.github.artanpg.benchmarks;
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or a record whose {@code toString}, {@code equals} and
+ * {@code hashCode} are generated at compile time by the {@code artan-processor}
+ * module.
+ * <p>For a class named {@code Person} the processor generates a class named
+ * {@code PersonArtan} in the same package, with the static methods
+ * {@code toString(Person)}, {@code equals(Person, Object)} and
+ * {@code hashCode(Person)}, to which the annotated class delegates:
+ * <pre>{@code
+ * @ArtanValue
+ * public class Person {
+ *     String name;
+ *     int age;
+ *
+ *     @Override
+ *     public String toString() {
+ *         return PersonArtan.toString(this);
+ *     }
+ * }
+ * }</pre>
+ * <p>The generated methods call {@link ToStringBuilder}, {@link EqualsBuilder}
+ * and {@link HashCodeBuilder} with the overload matching the declared type of
+ * each field, so no reflection is involved. The instance fields declared by
+ * the class, except static and transient ones, are used. Private fields are
+ * read through their accessor, such as {@code getName()}, {@code isActive()}
+ * or the accessor of a record component.
+ *
+ * @author Mohammad Yazdian
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ArtanValue {
+}
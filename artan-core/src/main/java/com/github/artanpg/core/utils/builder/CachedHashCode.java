@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+/**
+ * A base class for immutable objects which computes their hash code once and
+ * caches it, for objects used as the keys of hash tables.
+ * <p>The hash code is cached with the racy single-check idiom of
+ * {@link String#hashCode()}: the fields are read without locks, so threads
+ * racing on the first call may each compute it, but they all compute and
+ * publish the same value, which is a single {@code int} and never seen torn.
+ * A hash code of {@code 0} is remembered by a separate flag, so it is not
+ * computed again on every call either.
+ * <pre>{@code
+ * public final class OrderKey extends CachedHashCode {
+ *     private final long tenantId;
+ *     private final String number;
+ *
+ *     @Override
+ *     protected int computeHashCode() {
+ *         return HashCodeBuilder.of().append(tenantId).append(number).toHashCode();
+ *     }
+ * }
+ * }</pre>
+ * <p>The subclass implements {@code equals} as usual, and must be immutable,
+ * at least in the fields which its hash code depends on. The cache fields
+ * are transient, so they are neither serialized nor read by the reflective
+ * builders.
+ *
+ * @author Mohammad Yazdian
+ */
+public abstract class CachedHashCode {
+
+    /**
+     * The cached hash code, or {@code 0} if not computed yet.
+     */
+    private transient int hash;
+
+    /**
+     * Whether the hash code has been computed and is actually {@code 0}.
+     */
+    private transient boolean hashIsZero;
+
+    protected CachedHashCode() {
+    }
+
+    /**
+     * Computes the hash code of this object, called by {@link #hashCode()}
+     * once per instance, or a few times if threads race on the first call.
+     *
+     * @return the hash code of this object
+     */
+    protected abstract int computeHashCode();
+
+    /**
+     * Returns the hash code of this object, computing it on the first call.
+     *
+     * @return the cached hash code of this object
+     */
+    @Override
+    public final int hashCode() {
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = computeHashCode();
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The instance fields of a class, discovered once and cached per class, used
+ * by the reflective builders.
+ * <p>Fields of the superclasses come first, followed by the fields of the
+ * class in declaration order. Static, transient and synthetic fields are
+ * skipped.
+ * <p>The fields that the module system does not allow to read, such as the
+ * fields of {@link Integer} or {@link java.time.LocalDate}, are not dropped
+ * silently: the class is marked as not {@linkplain #isAccessible()
+ * accessible}, so that the builders fall back to the object's own
+ * {@code equals}, {@code hashCode} and {@code toString}, or reject it, instead
+ * of comparing the remaining fields alone.
+ *
+ * @author Mohammad Yazdian
+ */
+final class ClassFields {
+
+    private static final ClassValue<ClassFields> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassFields computeValue(Class<?> type) {
+            return new ClassFields(type);
+        }
+    };
+
+    private final FieldAccessor[] fields;
+
+    /**
+     * The fields ordered from the cheapest to the most expensive to compare.
+     */
+    private final FieldAccessor[] fieldsByCost;
+
+    /**
+     * The qualified name of the first field that could not be read, or
+     * {@code null} if all fields are readable.
+     */
+    private final String inaccessibleField;
+
+    private ClassFields(Class<?> type) {
+        List<FieldAccessor> accessors = new ArrayList<>();
+        List<Field> inaccessible = new ArrayList<>();
+        collect(type, accessors, inaccessible);
+        this.fields = accessors.toArray(new FieldAccessor[0]);
+        this.inaccessibleField = inaccessible.isEmpty() ? null
+                : inaccessible.get(0).getDeclaringClass().getName() + "." + inaccessible.get(0).getName();
+        this.fieldsByCost = fields.clone();
+        Arrays.sort(fieldsByCost, Comparator.comparingInt(field -> field.getKind().cost()));
+    }
+
+    static ClassFields of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    FieldAccessor[] fields() {
+        return fields;
+    }
+
+    FieldAccessor[] fieldsByCost() {
+        return fieldsByCost;
+    }
+
+    /**
+     * Returns whether all the instance fields of the class could be read,
+     * so that {@link #fields()} holds its whole state.
+     *
+     * @return true, if no instance field was left out
+     */
+    boolean isAccessible() {
+        return Objects.isNull(inaccessibleField);
+    }
+
+    /**
+     * Throws if a field of the class could not be read.
+     *
+     * @throws IllegalArgumentException naming the first field that could not
+     *                                  be read, with its declaring class
+     */
+    void requireAccessible() {
+        if (!isAccessible()) {
+            throw new IllegalArgumentException("The field " + inaccessibleField
+                    + " can not be read reflectively, its package is not open to this module");
+        }
+    }
+
+    private static void collect(Class<?> type, List<FieldAccessor> accessors, List<Field> inaccessible) {
+        if (Objects.isNull(type) || type == Object.class) {
+            return;
+        }
+        collect(type.getSuperclass(), accessors, inaccessible);
+        MethodHandles.Lookup lookup = lookup(type);
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            MethodHandle getter = getter(lookup, field);
+            if (Objects.nonNull(getter)) {
+                accessors.add(FieldAccessor.of(field.getName(), field.getType(), getter));
+            } else {
+                inaccessible.add(field);
+            }
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            if (Objects.nonNull(lookup)) {
+                return lookup.unreflectGetter(field);
+            }
+            if (field.trySetAccessible()) {
+                return MethodHandles.lookup().unreflectGetter(field);
+            }
+        } catch (IllegalAccessException e) {
+            // not readable, the field is reported by isAccessible
+        }
+        return null;
+    }
+}
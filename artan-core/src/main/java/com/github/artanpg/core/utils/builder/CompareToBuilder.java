@@ -0,0 +1,568 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.Asserts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Assists in implementing {@link Comparable#compareTo(Object)} methods.
+ * <p>The values are compared in the order they are appended, and once two
+ * of them differ the remaining ones are not compared anymore. Primitive
+ * values are compared without boxing, arrays and collections element by
+ * element, and {@code null} is less than any other value:
+ * <pre>{@code
+ * public int compareTo(Person other) {
+ *     return CompareToBuilder.of()
+ *             .append(lastName, other.lastName)
+ *             .append(age, other.age)
+ *             .toComparison();
+ * }
+ * }</pre>
+ * <p>A reusable {@link Comparator} comparing the given fields is created by
+ * {@link #comparator(Class, String...)}.
+ *
+ * @author Mohammad Yazdian
+ */
+public class CompareToBuilder implements Builder<Integer> {
+
+    /**
+     * The result of the comparison so far.
+     */
+    private int comparison;
+
+    private CompareToBuilder() {
+        this.comparison = 0;
+    }
+
+    public static CompareToBuilder of() {
+        return new CompareToBuilder();
+    }
+
+    /**
+     * Creates a comparator which compares the given instance fields of two
+     * objects, in the given order, as {@link CompareToBuilder} does.
+     * <p>The fields are resolved once, and read through cached
+     * {@code MethodHandle}s, so comparing two objects neither boxes their
+     * primitive fields nor allocates. The comparator is immutable and can be
+     * shared by any number of threads.
+     *
+     * @param type       the class whose fields are compared
+     * @param fieldNames the names of the fields, from the most significant
+     * @return a comparator of the given fields
+     * @throws IllegalArgumentException if a field does not exist, can not be
+     *                                  read, or is neither primitive,
+     *                                  comparable nor a collection
+     */
+    public static <T> Comparator<T> comparator(Class<T> type, String... fieldNames) {
+        Asserts.notNull(type, "The type can not be null");
+        Asserts.isTrue(Objects.nonNull(fieldNames) && fieldNames.length > 0, "The field names can not be empty");
+
+        FieldAccessor[] fields = new FieldAccessor[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fields[i] = comparableField(type, fieldNames[i]);
+        }
+        return new FieldComparator<>(fields);
+    }
+
+    /**
+     * Compares two {@code boolean} parameters.
+     *
+     * @param lhs the left-hand side {@code boolean}
+     * @param rhs the right-hand side {@code boolean}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(boolean lhs, boolean rhs) {
+        if (comparison == 0) {
+            comparison = Boolean.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code boolean[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code boolean[]}
+     * @param rhs the right-hand side {@code boolean[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(boolean[] lhs, boolean[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code byte} parameters.
+     *
+     * @param lhs the left-hand side {@code byte}
+     * @param rhs the right-hand side {@code byte}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(byte lhs, byte rhs) {
+        if (comparison == 0) {
+            comparison = Byte.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code byte[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code byte[]}
+     * @param rhs the right-hand side {@code byte[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(byte[] lhs, byte[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code char} parameters.
+     *
+     * @param lhs the left-hand side {@code char}
+     * @param rhs the right-hand side {@code char}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(char lhs, char rhs) {
+        if (comparison == 0) {
+            comparison = Character.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code char[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code char[]}
+     * @param rhs the right-hand side {@code char[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(char[] lhs, char[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code short} parameters.
+     *
+     * @param lhs the left-hand side {@code short}
+     * @param rhs the right-hand side {@code short}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(short lhs, short rhs) {
+        if (comparison == 0) {
+            comparison = Short.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code short[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code short[]}
+     * @param rhs the right-hand side {@code short[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(short[] lhs, short[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code int} parameters.
+     *
+     * @param lhs the left-hand side {@code int}
+     * @param rhs the right-hand side {@code int}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(int lhs, int rhs) {
+        if (comparison == 0) {
+            comparison = Integer.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code int[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code int[]}
+     * @param rhs the right-hand side {@code int[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(int[] lhs, int[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code long} parameters.
+     *
+     * @param lhs the left-hand side {@code long}
+     * @param rhs the right-hand side {@code long}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(long lhs, long rhs) {
+        if (comparison == 0) {
+            comparison = Long.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code long[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code long[]}
+     * @param rhs the right-hand side {@code long[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(long[] lhs, long[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code float} parameters.
+     *
+     * @param lhs the left-hand side {@code float}
+     * @param rhs the right-hand side {@code float}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(float lhs, float rhs) {
+        if (comparison == 0) {
+            comparison = Float.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code float[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code float[]}
+     * @param rhs the right-hand side {@code float[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(float[] lhs, float[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code double} parameters.
+     *
+     * @param lhs the left-hand side {@code double}
+     * @param rhs the right-hand side {@code double}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(double lhs, double rhs) {
+        if (comparison == 0) {
+            comparison = Double.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code double[]}, where a
+     * {@code null} array is less than any other.
+     *
+     * @param lhs the left-hand side {@code double[]}
+     * @param rhs the right-hand side {@code double[]}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder append(double[] lhs, double[] rhs) {
+        if (comparison == 0) {
+            comparison = Arrays.compare(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two {@code Object} parameters by their natural ordering, or
+     * as {@link #append(Collection, Collection)} does if both are
+     * collections.
+     *
+     * @param lhs the left-hand side {@code Object}
+     * @param rhs the right-hand side {@code Object}
+     * @return {@code this} instance.
+     * @throws ClassCastException if the objects are not comparable to each
+     *                            other
+     */
+    public CompareToBuilder append(Object lhs, Object rhs) {
+        if (comparison == 0) {
+            comparison = compareObjects(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Compares two objects with the given comparator, where {@code null}
+     * is less than any other value.
+     *
+     * @param lhs        the left-hand side object
+     * @param rhs        the right-hand side object
+     * @param comparator the comparator of the objects
+     * @return {@code this} instance.
+     */
+    public <T> CompareToBuilder append(T lhs, T rhs, Comparator<? super T> comparator) {
+        Asserts.notNull(comparator, "The comparator can not be null");
+
+        if (comparison == 0 && lhs != rhs) {
+            if (Objects.isNull(lhs)) {
+                comparison = -1;
+            } else if (Objects.isNull(rhs)) {
+                comparison = 1;
+            } else {
+                comparison = comparator.compare(lhs, rhs);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of array of {@code Object[]} by the natural
+     * ordering of the elements, where a {@code null} array is less than any
+     * other.
+     *
+     * @param lhs the left-hand side {@code Object[]}
+     * @param rhs the right-hand side {@code Object[]}
+     * @return {@code this} instance.
+     * @throws ClassCastException if the elements are not comparable to each
+     *                            other
+     */
+    public CompareToBuilder append(Object[] lhs, Object[] rhs) {
+        if (comparison == 0) {
+            comparison = compareArrays(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Lexicographic comparison of two collections in their iteration order,
+     * by the natural ordering of the elements, where a {@code null}
+     * collection is less than any other and a collection is less than the
+     * longer ones it is a prefix of.
+     * <p>The order is meaningful for lists and sorted sets. Lists supporting
+     * fast random access are read by index, without an iterator.
+     *
+     * @param lhs the left-hand side {@code Collection}
+     * @param rhs the right-hand side {@code Collection}
+     * @return {@code this} instance.
+     * @throws ClassCastException if the elements are not comparable to each
+     *                            other
+     */
+    public CompareToBuilder append(Collection<?> lhs, Collection<?> rhs) {
+        if (comparison == 0) {
+            comparison = compareCollections(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the result of super.compareTo() to this builder.
+     *
+     * @param superCompareTo the result of calling {@code super.compareTo()}
+     * @return {@code this} instance.
+     */
+    public CompareToBuilder appendSuper(int superCompareTo) {
+        if (comparison == 0) {
+            comparison = superCompareTo;
+        }
+        return this;
+    }
+
+    /**
+     * Returns a negative integer, zero or a positive integer as the
+     * left-hand side values are less than, equal to or greater than the
+     * right-hand side ones.
+     *
+     * @return the result of the comparison
+     */
+    public int toComparison() {
+        return comparison;
+    }
+
+    @Override
+    public Integer build() {
+        return toComparison();
+    }
+
+    private static FieldAccessor comparableField(Class<?> type, String fieldName) {
+        ClassFields classFields = ClassFields.of(type);
+        for (FieldAccessor field : classFields.fields()) {
+            if (field.getName().equals(fieldName)) {
+                Class<?> fieldType = field.getType();
+                Class<?> elementType = fieldType.isArray() ? fieldType.getComponentType() : fieldType;
+                Asserts.isTrue(elementType.isPrimitive() || Comparable.class.isAssignableFrom(elementType)
+                                || Collection.class.isAssignableFrom(fieldType),
+                        "The field '" + fieldName + "' is neither primitive, comparable nor a collection");
+                return field;
+            }
+        }
+        classFields.requireAccessible();
+        throw new IllegalArgumentException("The field '" + fieldName + "' is not an instance field of " + type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareObjects(Object lhs, Object rhs) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (Objects.isNull(lhs)) {
+            return -1;
+        }
+        if (Objects.isNull(rhs)) {
+            return 1;
+        }
+        if (lhs instanceof Collection<?> lhsValues && rhs instanceof Collection<?> rhsValues) {
+            return compareCollections(lhsValues, rhsValues);
+        }
+        if (!(lhs instanceof Comparable)) {
+            throw new ClassCastException(lhs.getClass().getName() + " is not comparable, and must be appended"
+                    + " with a comparator");
+        }
+        return ((Comparable<Object>) lhs).compareTo(rhs);
+    }
+
+    private static int compareCollections(Collection<?> lhs, Collection<?> rhs) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (Objects.isNull(lhs)) {
+            return -1;
+        }
+        if (Objects.isNull(rhs)) {
+            return 1;
+        }
+        if (lhs instanceof List<?> lhsList && lhs instanceof RandomAccess
+                && rhs instanceof List<?> rhsList && rhs instanceof RandomAccess) {
+            int length = Math.min(lhsList.size(), rhsList.size());
+            for (int i = 0; i < length; i++) {
+                int comparison = compareObjects(lhsList.get(i), rhsList.get(i));
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return Integer.compare(lhsList.size(), rhsList.size());
+        }
+        Iterator<?> lhsIterator = lhs.iterator();
+        Iterator<?> rhsIterator = rhs.iterator();
+        while (lhsIterator.hasNext() && rhsIterator.hasNext()) {
+            int comparison = compareObjects(lhsIterator.next(), rhsIterator.next());
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Boolean.compare(lhsIterator.hasNext(), rhsIterator.hasNext());
+    }
+
+    private static int compareArrays(Object[] lhs, Object[] rhs) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (Objects.isNull(lhs)) {
+            return -1;
+        }
+        if (Objects.isNull(rhs)) {
+            return 1;
+        }
+        int length = Math.min(lhs.length, rhs.length);
+        for (int i = 0; i < length; i++) {
+            int comparison = compareObjects(lhs[i], rhs[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(lhs.length, rhs.length);
+    }
+
+    /**
+     * Compares the fields of two objects, from the most significant.
+     */
+    private static final class FieldComparator<T> implements Comparator<T> {
+
+        private final FieldAccessor[] fields;
+
+        private FieldComparator(FieldAccessor[] fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public int compare(T lhs, T rhs) {
+            if (lhs == rhs) {
+                return 0;
+            }
+            for (FieldAccessor field : fields) {
+                int comparison = compare(field, lhs, rhs);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return 0;
+        }
+
+        private static int compare(FieldAccessor field, Object lhs, Object rhs) {
+            return switch (field.getKind()) {
+                case BOOLEAN -> Boolean.compare(field.getBoolean(lhs), field.getBoolean(rhs));
+                case BYTE -> Byte.compare(field.getByte(lhs), field.getByte(rhs));
+                case CHAR -> Character.compare(field.getChar(lhs), field.getChar(rhs));
+                case SHORT -> Short.compare(field.getShort(lhs), field.getShort(rhs));
+                case INT -> Integer.compare(field.getInt(lhs), field.getInt(rhs));
+                case LONG -> Long.compare(field.getLong(lhs), field.getLong(rhs));
+                case FLOAT -> Float.compare(field.getFloat(lhs), field.getFloat(rhs));
+                case DOUBLE -> Double.compare(field.getDouble(lhs), field.getDouble(rhs));
+                case BOOLEAN_ARRAY -> Arrays.compare((boolean[]) field.get(lhs), (boolean[]) field.get(rhs));
+                case BYTE_ARRAY -> Arrays.compare((byte[]) field.get(lhs), (byte[]) field.get(rhs));
+                case CHAR_ARRAY -> Arrays.compare((char[]) field.get(lhs), (char[]) field.get(rhs));
+                case SHORT_ARRAY -> Arrays.compare((short[]) field.get(lhs), (short[]) field.get(rhs));
+                case INT_ARRAY -> Arrays.compare((int[]) field.get(lhs), (int[]) field.get(rhs));
+                case LONG_ARRAY -> Arrays.compare((long[]) field.get(lhs), (long[]) field.get(rhs));
+                case FLOAT_ARRAY -> Arrays.compare((float[]) field.get(lhs), (float[]) field.get(rhs));
+                case DOUBLE_ARRAY -> Arrays.compare((double[]) field.get(lhs), (double[]) field.get(rhs));
+                case STRING_ARRAY, DATE_ARRAY, TEMPORAL_ARRAY, OBJECT_ARRAY ->
+                        compareArrays((Object[]) field.get(lhs), (Object[]) field.get(rhs));
+                default -> compareObjects(field.get(lhs), field.get(rhs));
+            };
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The template of the accessors whose getter is a constant to the JIT.
+ * <p>This class is never loaded as it is: {@link FieldAccessor#of} defines a
+ * hidden copy of its bytes for every field, with the getter of the field as
+ * class data, so that {@link #GETTER} is a {@code static final} constant in
+ * each copy and the {@code invokeExact} calls are inlined down to the field
+ * read.
+ *
+ * @author Mohammad Yazdian
+ */
+final class ConstantFieldAccessor extends FieldAccessor {
+
+    private static final MethodHandle GETTER = classData();
+
+    ConstantFieldAccessor(String name, Class<?> type) {
+        super(name, type, GETTER);
+    }
+
+    private static MethodHandle classData() {
+        try {
+            return MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    boolean getBoolean(Object target) {
+        try {
+            return (boolean) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    byte getByte(Object target) {
+        try {
+            return (byte) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    char getChar(Object target) {
+        try {
+            return (char) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    short getShort(Object target) {
+        try {
+            return (short) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    int getInt(Object target) {
+        try {
+            return (int) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    long getLong(Object target) {
+        try {
+            return (long) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    float getFloat(Object target) {
+        try {
+            return (float) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    double getDouble(Object target) {
+        try {
+            return (double) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    Object get(Object target) {
+        try {
+            return (Object) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+}
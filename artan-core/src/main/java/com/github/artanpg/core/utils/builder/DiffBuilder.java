@@ -0,0 +1,479 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.builder.FieldAccessor.Kind;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Compares two objects field by field like {@link EqualsBuilder}, but records
+ * the fields which differ instead of stopping at the first difference.
+ * <p>Only the differing fields are recorded, along with their left-hand side
+ * and right-hand side values, into a compact descriptor: primitive values as
+ * their bits without boxing, and references as they are. Equal fields cost
+ * no more than in {@link EqualsBuilder}.
+ * <pre>{@code
+ * DiffResult diff = DiffBuilder.of(Order.class)
+ *         .append("id", id, other.id)
+ *         .append("total", total, other.total)
+ *         .build();
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ * @see DiffResult
+ */
+public final class DiffBuilder implements Builder<DiffResult> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * The class whose default style renders the result, or {@code null} for
+     * the json style.
+     */
+    private final Class<?> aClass;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+
+    private Kind[] kinds = new Kind[INITIAL_CAPACITY];
+
+    /**
+     * The bits of the primitive values of the left-hand side.
+     */
+    private long[] leftPrimitives = new long[INITIAL_CAPACITY];
+
+    /**
+     * The bits of the primitive values of the right-hand side.
+     */
+    private long[] rightPrimitives = new long[INITIAL_CAPACITY];
+
+    private Object[] leftReferences = new Object[INITIAL_CAPACITY];
+
+    private Object[] rightReferences = new Object[INITIAL_CAPACITY];
+
+    private int size;
+
+    private DiffBuilder(Class<?> aClass) {
+        this.aClass = aClass;
+    }
+
+    public static DiffBuilder of() {
+        return new DiffBuilder(null);
+    }
+
+    public static <T> DiffBuilder of(Class<T> aClass) {
+        Asserts.notNull(aClass, "The class can not be null");
+        return new DiffBuilder(aClass);
+    }
+
+    /**
+     * Finds the differing instance fields of two objects of the same class,
+     * as {@link #appendFields(Object, Object)} does.
+     *
+     * @param lhs the left-hand side object
+     * @param rhs the right-hand side object
+     * @return the differing fields of the objects
+     */
+    public static DiffResult reflectionDiff(Object lhs, Object rhs) {
+        Asserts.notNull(lhs, "The lhs can not be null");
+        return of(lhs.getClass()).appendFields(lhs, rhs).build();
+    }
+
+    /**
+     * Records the field if two {@code boolean} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code boolean}
+     * @param rhs       the right-hand side {@code boolean}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, boolean lhs, boolean rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.BOOLEAN, lhs ? 1 : 0, rhs ? 1 : 0, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code boolean[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code boolean[]}
+     * @param rhs       the right-hand side {@code boolean[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, boolean[] lhs, boolean[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.BOOLEAN_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code byte} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code byte}
+     * @param rhs       the right-hand side {@code byte}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, byte lhs, byte rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.BYTE, lhs, rhs, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code byte[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code byte[]}
+     * @param rhs       the right-hand side {@code byte[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, byte[] lhs, byte[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.BYTE_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code char} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code char}
+     * @param rhs       the right-hand side {@code char}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, char lhs, char rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.CHAR, lhs, rhs, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code char[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code char[]}
+     * @param rhs       the right-hand side {@code char[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, char[] lhs, char[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.CHAR_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code short} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code short}
+     * @param rhs       the right-hand side {@code short}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, short lhs, short rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.SHORT, lhs, rhs, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code short[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code short[]}
+     * @param rhs       the right-hand side {@code short[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, short[] lhs, short[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.SHORT_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code int} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code int}
+     * @param rhs       the right-hand side {@code int}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, int lhs, int rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.INT, lhs, rhs, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code int[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code int[]}
+     * @param rhs       the right-hand side {@code int[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, int[] lhs, int[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.INT_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code long} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code long}
+     * @param rhs       the right-hand side {@code long}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, long lhs, long rhs) {
+        if (lhs != rhs) {
+            record(fieldName, Kind.LONG, lhs, rhs, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code long[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code long[]}
+     * @param rhs       the right-hand side {@code long[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, long[] lhs, long[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.LONG_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code float} parameters are not equal, as
+     * compared by {@link Float#compare(float, float)}.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code float}
+     * @param rhs       the right-hand side {@code float}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, float lhs, float rhs) {
+        if (Float.compare(lhs, rhs) != 0) {
+            record(fieldName, Kind.FLOAT, Float.floatToRawIntBits(lhs), Float.floatToRawIntBits(rhs), null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code float[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code float[]}
+     * @param rhs       the right-hand side {@code float[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, float[] lhs, float[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.FLOAT_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code double} parameters are not equal, as
+     * compared by {@link Double#compare(double, double)}.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code double}
+     * @param rhs       the right-hand side {@code double}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, double lhs, double rhs) {
+        if (Double.compare(lhs, rhs) != 0) {
+            record(fieldName, Kind.DOUBLE, Double.doubleToRawLongBits(lhs), Double.doubleToRawLongBits(rhs),
+                    null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code double[]} parameters are not equal.
+     * Length and all values are compared.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code double[]}
+     * @param rhs       the right-hand side {@code double[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, double[] lhs, double[] rhs) {
+        if (!Arrays.equals(lhs, rhs)) {
+            record(fieldName, Kind.DOUBLE_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code Object} parameters are not equal.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code Object}
+     * @param rhs       the right-hand side {@code Object}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, Object lhs, Object rhs) {
+        if (!Objects.equals(lhs, rhs)) {
+            record(fieldName, Kind.OBJECT, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code Object[]} parameters are not equal.
+     * Length and all values are compared deeply.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code Object[]}
+     * @param rhs       the right-hand side {@code Object[]}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, Object[] lhs, Object[] rhs) {
+        if (!Arrays.deepEquals(lhs, rhs)) {
+            record(fieldName, Kind.OBJECT_ARRAY, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the field if two {@code Collection<?>} parameters are not
+     * equal, as compared by {@link EqualsBuilder#append(Collection, Collection)}.
+     *
+     * @param fieldName the name of the compared field
+     * @param lhs       the left-hand side {@code Collection<?>}
+     * @param rhs       the right-hand side {@code Collection<?>}
+     * @return {@code this} instance.
+     */
+    public DiffBuilder append(String fieldName, Collection<?> lhs, Collection<?> rhs) {
+        if (!EqualsBuilder.collectionEquals(lhs, rhs)) {
+            record(fieldName, Kind.COLLECTION, 0, 0, lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Records the differing instance fields of two objects of the same
+     * class, except static and transient ones, in declaration order.
+     * <p>The fields are discovered once per class and read through cached
+     * {@code MethodHandle}s, with primitive fields read without boxing.
+     *
+     * @param lhs the left-hand side object
+     * @param rhs the right-hand side object
+     * @return {@code this} instance.
+     * @throws IllegalArgumentException if a field of the class can not be
+     *                                  read, such as the fields of
+     *                                  {@link java.time.LocalDate}
+     */
+    public DiffBuilder appendFields(Object lhs, Object rhs) {
+        Asserts.notNull(lhs, "The lhs can not be null");
+        Asserts.notNull(rhs, "The rhs can not be null");
+        Asserts.isTrue(lhs.getClass() == rhs.getClass(), "The lhs and the rhs must be of the same class");
+
+        if (lhs == rhs) {
+            return this;
+        }
+        ClassFields classFields = ClassFields.of(lhs.getClass());
+        classFields.requireAccessible();
+        for (FieldAccessor field : classFields.fields()) {
+            String name = field.getName();
+            switch (field.getKind()) {
+                case BOOLEAN -> append(name, field.getBoolean(lhs), field.getBoolean(rhs));
+                case BYTE -> append(name, field.getByte(lhs), field.getByte(rhs));
+                case CHAR -> append(name, field.getChar(lhs), field.getChar(rhs));
+                case SHORT -> append(name, field.getShort(lhs), field.getShort(rhs));
+                case INT -> append(name, field.getInt(lhs), field.getInt(rhs));
+                case LONG -> append(name, field.getLong(lhs), field.getLong(rhs));
+                case FLOAT -> append(name, field.getFloat(lhs), field.getFloat(rhs));
+                case DOUBLE -> append(name, field.getDouble(lhs), field.getDouble(rhs));
+                case BOOLEAN_ARRAY -> append(name, (boolean[]) field.get(lhs), (boolean[]) field.get(rhs));
+                case BYTE_ARRAY -> append(name, (byte[]) field.get(lhs), (byte[]) field.get(rhs));
+                case CHAR_ARRAY -> append(name, (char[]) field.get(lhs), (char[]) field.get(rhs));
+                case SHORT_ARRAY -> append(name, (short[]) field.get(lhs), (short[]) field.get(rhs));
+                case INT_ARRAY -> append(name, (int[]) field.get(lhs), (int[]) field.get(rhs));
+                case LONG_ARRAY -> append(name, (long[]) field.get(lhs), (long[]) field.get(rhs));
+                case FLOAT_ARRAY -> append(name, (float[]) field.get(lhs), (float[]) field.get(rhs));
+                case DOUBLE_ARRAY -> append(name, (double[]) field.get(lhs), (double[]) field.get(rhs));
+                case STRING_ARRAY, DATE_ARRAY, TEMPORAL_ARRAY, OBJECT_ARRAY ->
+                        append(name, (Object[]) field.get(lhs), (Object[]) field.get(rhs));
+                case COLLECTION -> append(name, (Collection<?>) field.get(lhs), (Collection<?>) field.get(rhs));
+                default -> append(name, field.get(lhs), field.get(rhs));
+            }
+        }
+        return this;
+    }
+
+    private void record(String fieldName, Kind kind, long leftPrimitive, long rightPrimitive,
+                        Object leftReference, Object rightReference) {
+        Asserts.notNull(fieldName, "The fieldName can not be null");
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            leftPrimitives = Arrays.copyOf(leftPrimitives, capacity);
+            rightPrimitives = Arrays.copyOf(rightPrimitives, capacity);
+            leftReferences = Arrays.copyOf(leftReferences, capacity);
+            rightReferences = Arrays.copyOf(rightReferences, capacity);
+        }
+        names[size] = fieldName;
+        kinds[size] = kind;
+        leftPrimitives[size] = leftPrimitive;
+        rightPrimitives[size] = rightPrimitive;
+        leftReferences[size] = leftReference;
+        rightReferences[size] = rightReference;
+        size++;
+    }
+
+    /**
+     * Returns the fields which differ so far, trimmed to their number.
+     *
+     * @return the differing fields
+     */
+    @Override
+    public DiffResult build() {
+        return new DiffResult(aClass, Arrays.copyOf(names, size), Arrays.copyOf(kinds, size),
+                Arrays.copyOf(leftPrimitives, size), Arrays.copyOf(rightPrimitives, size),
+                Arrays.copyOf(leftReferences, size), Arrays.copyOf(rightReferences, size));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.builder.FieldAccessor.Kind;
+import com.github.artanpg.core.utils.builder.strategy.ToStringStyleStrategy;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The fields which differ between two objects, as recorded by a
+ * {@link DiffBuilder}, each with its left-hand side and right-hand side
+ * value.
+ * <p>Primitive values are kept as their bits and boxed only when read by
+ * {@link #getLeft(int)} or {@link #getRight(int)}. The result is rendered as
+ * the differing fields of the left-hand side followed by those of the
+ * right-hand side, each through its own {@link ToStringBuilder}:
+ * <pre>{@code
+ * Order('total'=10.0,'status'='NEW') differs from Order('total'=12.0,'status'='PAID')
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public final class DiffResult {
+
+    private static final String DIFFERS_FROM = " differs from ";
+
+    /**
+     * The class whose default style is used, or {@code null} for the json
+     * style.
+     */
+    private final Class<?> aClass;
+
+    private final String[] names;
+
+    private final Kind[] kinds;
+
+    private final long[] leftPrimitives;
+
+    private final long[] rightPrimitives;
+
+    private final Object[] leftReferences;
+
+    private final Object[] rightReferences;
+
+    DiffResult(Class<?> aClass, String[] names, Kind[] kinds, long[] leftPrimitives, long[] rightPrimitives,
+               Object[] leftReferences, Object[] rightReferences) {
+        this.aClass = aClass;
+        this.names = names;
+        this.kinds = kinds;
+        this.leftPrimitives = leftPrimitives;
+        this.rightPrimitives = rightPrimitives;
+        this.leftReferences = leftReferences;
+        this.rightReferences = rightReferences;
+    }
+
+    /**
+     * Returns the number of the differing fields.
+     *
+     * @return the number of the differing fields
+     */
+    public int getNumberOfDiffs() {
+        return names.length;
+    }
+
+    /**
+     * Returns whether no field differs.
+     *
+     * @return true, if the compared objects are equal
+     */
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    /**
+     * Returns the name of a differing field.
+     *
+     * @param index the index of the differing field
+     * @return the name of the field
+     */
+    public String getFieldName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the left-hand side value of a differing field, with primitive
+     * values boxed.
+     *
+     * @param index the index of the differing field
+     * @return the left-hand side value of the field
+     */
+    public Object getLeft(int index) {
+        return value(kinds[index], leftPrimitives[index], leftReferences[index]);
+    }
+
+    /**
+     * Returns the right-hand side value of a differing field, with primitive
+     * values boxed.
+     *
+     * @param index the index of the differing field
+     * @return the right-hand side value of the field
+     */
+    public Object getRight(int index) {
+        return value(kinds[index], rightPrimitives[index], rightReferences[index]);
+    }
+
+    private static Object value(Kind kind, long bits, Object reference) {
+        return switch (kind) {
+            case BOOLEAN -> bits != 0;
+            case BYTE -> (byte) bits;
+            case CHAR -> (char) bits;
+            case SHORT -> (short) bits;
+            case INT -> (int) bits;
+            case LONG -> bits;
+            case FLOAT -> Float.intBitsToFloat((int) bits);
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            default -> reference;
+        };
+    }
+
+    /**
+     * Renders the differing fields through the given style, created once for
+     * each side.
+     *
+     * @param styleFactory creates the style of each side
+     * @return the String {@code toString}, or an empty string if no field
+     * differs
+     */
+    public String toString(Supplier<? extends ToStringStyleStrategy> styleFactory) {
+        Asserts.notNull(styleFactory, "The styleFactory can not be null");
+        if (isEmpty()) {
+            return "";
+        }
+        return render(ToStringBuilder.costumeStyle(styleFactory.get()), leftPrimitives, leftReferences)
+                + DIFFERS_FROM
+                + render(ToStringBuilder.costumeStyle(styleFactory.get()), rightPrimitives, rightReferences);
+    }
+
+    /**
+     * Renders the differing fields through the default style of the class
+     * given to the {@link DiffBuilder}, or the json style if none was given.
+     *
+     * @return the String {@code toString}, or an empty string if no field
+     * differs
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "";
+        }
+        return render(newBuilder(), leftPrimitives, leftReferences)
+                + DIFFERS_FROM
+                + render(newBuilder(), rightPrimitives, rightReferences);
+    }
+
+    private ToStringBuilder newBuilder() {
+        return Objects.nonNull(aClass) ? ToStringBuilder.defaultStyle(aClass) : ToStringBuilder.jsonStyle();
+    }
+
+    /**
+     * Formats the values of one side through a {@link ToStringBuilder}.
+     */
+    private String render(ToStringBuilder builder, long[] primitives, Object[] references) {
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            long bits = primitives[i];
+            Object reference = references[i];
+            switch (kinds[i]) {
+                case BOOLEAN -> builder.append(name, bits != 0);
+                case BYTE -> builder.append(name, (byte) bits);
+                case CHAR -> builder.append(name, (char) bits);
+                case SHORT -> builder.append(name, (short) bits);
+                case INT -> builder.append(name, (int) bits);
+                case LONG -> builder.append(name, bits);
+                case FLOAT -> builder.append(name, Float.intBitsToFloat((int) bits));
+                case DOUBLE -> builder.append(name, Double.longBitsToDouble(bits));
+                case BOOLEAN_ARRAY -> builder.append(name, (boolean[]) reference);
+                case BYTE_ARRAY -> builder.append(name, (byte[]) reference);
+                case CHAR_ARRAY -> builder.append(name, (char[]) reference);
+                case SHORT_ARRAY -> builder.append(name, (short[]) reference);
+                case INT_ARRAY -> builder.append(name, (int[]) reference);
+                case LONG_ARRAY -> builder.append(name, (long[]) reference);
+                case FLOAT_ARRAY -> builder.append(name, (float[]) reference);
+                case DOUBLE_ARRAY -> builder.append(name, (double[]) reference);
+                case COLLECTION -> builder.append(name, (Collection<?>) reference);
+                case OBJECT_ARRAY -> builder.append(name, (Object[]) reference);
+                default -> appendObject(builder, name, reference);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Appends an object with the overload matching its runtime type.
+     */
+    private static void appendObject(ToStringBuilder builder, String name, Object reference) {
+        if (reference instanceof String string) {
+            builder.append(name, string);
+        } else if (reference instanceof Date date) {
+            builder.append(name, date);
+        } else if (reference instanceof TemporalAccessor temporal) {
+            builder.append(name, temporal);
+        } else if (reference instanceof Enum<?> anEnum) {
+            builder.append(name, anEnum);
+        } else {
+            builder.append(name, reference);
+        }
+    }
+}
@@ -15,9 +15,16 @@
  */
 package com.github.artanpg.core.utils.builder;
 
+import com.github.artanpg.core.utils.Asserts;
+
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 
 /**
  * Assists in implementing {@link Object#equals(Object)} methods.
@@ -29,13 +36,31 @@ public class EqualsBuilder implements Builder<Boolean> {
     private boolean isEquals;
 
     private EqualsBuilder() {
-        this.isEquals = true;
+        reset();
     }
 
     public static EqualsBuilder of() {
         return new EqualsBuilder();
     }
 
+    /**
+     * Tests if two objects are equal by all their instance fields, as
+     * {@link #appendFields(Object, Object)} does.
+     *
+     * @param lhs the left-hand side object
+     * @param rhs the right-hand side object
+     * @return true, if the objects are the same or all their fields are equal
+     */
+    public static boolean reflectionEquals(Object lhs, Object rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (Objects.isNull(lhs) || Objects.isNull(rhs)) {
+            return false;
+        }
+        return of().appendFields(lhs, rhs).build();
+    }
+
     /**
      * Test if two {@code boolean} parameters are equal.
      *
@@ -219,7 +244,7 @@ public class EqualsBuilder implements Builder<Boolean> {
      */
     public EqualsBuilder append(float lhs, float rhs) {
         if (isEquals) {
-            isEquals = Float.compare(lhs, rhs) != 0;
+            isEquals = Float.compare(lhs, rhs) == 0;
         }
         return this;
     }
@@ -248,7 +273,7 @@ public class EqualsBuilder implements Builder<Boolean> {
      */
     public EqualsBuilder append(double lhs, double rhs) {
         if (isEquals) {
-            isEquals = Double.compare(lhs, rhs) != 0;
+            isEquals = Double.compare(lhs, rhs) == 0;
         }
         return this;
     }
@@ -298,19 +323,101 @@ public class EqualsBuilder implements Builder<Boolean> {
     }
 
     /**
-     * Test if two {@code Collection<?>} parameters are equal.
+     * Test if two {@code Collection<?>} parameters are equal. The sizes are
+     * compared first, then the elements in iteration order, with arrays
+     * compared deeply as {@link HashCodeBuilder#append(Collection)} hashes
+     * them.
+     * <p>Two sets are equal if they contain the same elements in any order,
+     * as in {@link Set#equals(Object)}, and a set is never equal to a
+     * collection which is not a set. The elements of lists supporting fast
+     * random access are compared by index, without iterators.
      *
      * @param lhs the left-hand side {@code Collection<?>}
      * @param rhs the right-hand side {@code Collection<?>}
      * @return {@code this} instance.
      */
-    public <T> EqualsBuilder append(Collection<T> lhs, Collection<T> rhs) {
+    public EqualsBuilder append(Collection<?> lhs, Collection<?> rhs) {
         if (isEquals) {
-            isEquals = Arrays.deepEquals(lhs.toArray(), rhs.toArray());
+            isEquals = collectionEquals(lhs, rhs);
+        }
+        return this;
+    }
+
+    /**
+     * Test if two objects of the same class are equal by all their instance
+     * fields, except static and transient ones.
+     * <p>The fields are discovered once per class and read through cached
+     * {@code MethodHandle}s. They are compared from the cheapest to the most
+     * expensive, stopping at the first difference: primitives first, then
+     * strings, enums and dates, then arrays and collections, each by its
+     * length or size before its elements, and other objects last.
+     * <p>Objects of a class whose fields the module system does not allow to
+     * read, such as {@link Integer} or {@link java.time.LocalDate}, are
+     * compared by their own {@code equals}.
+     *
+     * @param lhs the left-hand side object
+     * @param rhs the right-hand side object
+     * @return {@code this} instance.
+     */
+    public EqualsBuilder appendFields(Object lhs, Object rhs) {
+        Asserts.notNull(lhs, "The lhs can not be null");
+        Asserts.notNull(rhs, "The rhs can not be null");
+
+        if (!isEquals || lhs == rhs) {
+            return this;
+        }
+        if (lhs.getClass() != rhs.getClass()) {
+            isEquals = false;
+            return this;
+        }
+        ClassFields classFields = ClassFields.of(lhs.getClass());
+        if (!classFields.isAccessible()) {
+            isEquals = lhs.equals(rhs);
+            return this;
+        }
+        FieldAccessor[] fields = classFields.fieldsByCost();
+        for (int i = 0; i < fields.length && isEquals; i++) {
+            FieldAccessor field = fields[i];
+            switch (field.getKind()) {
+                case BOOLEAN -> append(field.getBoolean(lhs), field.getBoolean(rhs));
+                case BYTE -> append(field.getByte(lhs), field.getByte(rhs));
+                case CHAR -> append(field.getChar(lhs), field.getChar(rhs));
+                case SHORT -> append(field.getShort(lhs), field.getShort(rhs));
+                case INT -> append(field.getInt(lhs), field.getInt(rhs));
+                case LONG -> append(field.getLong(lhs), field.getLong(rhs));
+                case FLOAT -> append(field.getFloat(lhs), field.getFloat(rhs));
+                case DOUBLE -> append(field.getDouble(lhs), field.getDouble(rhs));
+                default -> appendField(field.getKind(), field.get(lhs), field.get(rhs));
+            }
         }
         return this;
     }
 
+    /**
+     * Compares the values of a field which is not primitive, with the
+     * overload matching its kind. The length of arrays and the size of
+     * collections are compared before their elements.
+     */
+    private void appendField(FieldAccessor.Kind kind, Object lhs, Object rhs) {
+        if (kind.isContainer() && !sameLength(lhs, rhs)) {
+            isEquals = false;
+            return;
+        }
+        switch (kind) {
+            case BOOLEAN_ARRAY -> append((boolean[]) lhs, (boolean[]) rhs);
+            case BYTE_ARRAY -> append((byte[]) lhs, (byte[]) rhs);
+            case CHAR_ARRAY -> append((char[]) lhs, (char[]) rhs);
+            case SHORT_ARRAY -> append((short[]) lhs, (short[]) rhs);
+            case INT_ARRAY -> append((int[]) lhs, (int[]) rhs);
+            case LONG_ARRAY -> append((long[]) lhs, (long[]) rhs);
+            case FLOAT_ARRAY -> append((float[]) lhs, (float[]) rhs);
+            case DOUBLE_ARRAY -> append((double[]) lhs, (double[]) rhs);
+            case STRING_ARRAY, DATE_ARRAY, TEMPORAL_ARRAY, OBJECT_ARRAY -> append((Object[]) lhs, (Object[]) rhs);
+            case COLLECTION -> append((Collection<?>) lhs, (Collection<?>) rhs);
+            default -> append(lhs, rhs);
+        }
+    }
+
     /**
      * Adds the result of {@code super.equals()} to this builder.
      *
@@ -325,6 +432,65 @@ public class EqualsBuilder implements Builder<Boolean> {
         return this;
     }
 
+    /**
+     * Clears the compared values, so that the builder can be reused for
+     * another comparison without creating a new one. A builder is not
+     * thread-safe, so a reused builder must be confined to one thread.
+     *
+     * @return {@code this} instance.
+     */
+    public EqualsBuilder reset() {
+        isEquals = true;
+        return this;
+    }
+
+    /**
+     * Tests if two collections are equal, as {@link #append(Collection, Collection)}
+     * does.
+     */
+    static boolean collectionEquals(Collection<?> lhs, Collection<?> rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (Objects.isNull(lhs) || Objects.isNull(rhs) || lhs.size() != rhs.size()) {
+            return false;
+        }
+        if (lhs instanceof Set || rhs instanceof Set) {
+            return lhs instanceof Set && rhs instanceof Set && lhs.containsAll(rhs);
+        }
+        if (lhs instanceof RandomAccess && lhs instanceof List<?> lhsList
+                && rhs instanceof RandomAccess && rhs instanceof List<?> rhsList) {
+            for (int i = 0, size = lhsList.size(); i < size; i++) {
+                if (!Objects.deepEquals(lhsList.get(i), rhsList.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Iterator<?> lhsIterator = lhs.iterator();
+        Iterator<?> rhsIterator = rhs.iterator();
+        while (lhsIterator.hasNext() && rhsIterator.hasNext()) {
+            if (!Objects.deepEquals(lhsIterator.next(), rhsIterator.next())) {
+                return false;
+            }
+        }
+        return lhsIterator.hasNext() == rhsIterator.hasNext();
+    }
+
+    /**
+     * Compares the null-ness and the length of two arrays or the size of two
+     * collections, without looking at the elements.
+     */
+    private static boolean sameLength(Object lhs, Object rhs) {
+        if (Objects.isNull(lhs) || Objects.isNull(rhs)) {
+            return lhs == rhs;
+        }
+        if (lhs instanceof Collection<?> lhsCollection) {
+            return lhsCollection.size() == ((Collection<?>) rhs).size();
+        }
+        return Array.getLength(lhs) == Array.getLength(rhs);
+    }
+
     /**
      * Checks if the checked fields are equal.
      *
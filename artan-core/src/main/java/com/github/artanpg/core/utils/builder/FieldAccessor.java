@@ -0,0 +1,325 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Reads the value of one field through a {@link MethodHandle}, typed so that
+ * primitive fields are read without boxing.
+ * <p>A handle held in an instance field is not a constant to the JIT, so
+ * every read through it is an indirect call. {@link #of} therefore defines,
+ * for every field, a hidden copy of {@link ConstantFieldAccessor} which holds
+ * the handle in a {@code static final} field, and falls back to this class
+ * only where the template can not be read. See
+ * {@code ReflectiveBuildersBenchmark} in the {@code artan-benchmarks} module
+ * for the remaining gap to hand-written code, and {@link ArtanValue} for code
+ * generated at compile time instead.
+ *
+ * @author Mohammad Yazdian
+ */
+class FieldAccessor {
+
+    /**
+     * The class file of {@link ConstantFieldAccessor}, or {@code null} if it
+     * can not be read as a resource.
+     */
+    private static final byte[] TEMPLATE = template();
+
+    /**
+     * The category of a field, which selects the matching overload of the
+     * builders.
+     */
+    enum Kind {
+        BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE,
+        BOOLEAN_ARRAY, BYTE_ARRAY, CHAR_ARRAY, SHORT_ARRAY, INT_ARRAY, LONG_ARRAY, FLOAT_ARRAY, DOUBLE_ARRAY,
+        STRING, STRING_ARRAY, DATE, DATE_ARRAY, TEMPORAL, TEMPORAL_ARRAY, COLLECTION, ENUM, OBJECT_ARRAY, OBJECT;
+
+        static Kind of(Class<?> type) {
+            if (type.isPrimitive()) {
+                return ofPrimitive(type);
+            }
+            if (type.isArray() && type.getComponentType().isPrimitive()) {
+                return ofPrimitiveArray(type.getComponentType());
+            }
+            if (type == String.class) {
+                return STRING;
+            }
+            if (type == String[].class) {
+                return STRING_ARRAY;
+            }
+            if (Date.class.isAssignableFrom(type)) {
+                return DATE;
+            }
+            if (type.isArray() && Date.class.isAssignableFrom(type.getComponentType())) {
+                return DATE_ARRAY;
+            }
+            if (TemporalAccessor.class.isAssignableFrom(type)) {
+                return TEMPORAL;
+            }
+            if (type.isArray() && TemporalAccessor.class.isAssignableFrom(type.getComponentType())) {
+                return TEMPORAL_ARRAY;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return COLLECTION;
+            }
+            if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
+            }
+            return type.isArray() ? OBJECT_ARRAY : OBJECT;
+        }
+
+        private static Kind ofPrimitive(Class<?> type) {
+            if (type == boolean.class) {
+                return BOOLEAN;
+            } else if (type == byte.class) {
+                return BYTE;
+            } else if (type == char.class) {
+                return CHAR;
+            } else if (type == short.class) {
+                return SHORT;
+            } else if (type == int.class) {
+                return INT;
+            } else if (type == long.class) {
+                return LONG;
+            } else if (type == float.class) {
+                return FLOAT;
+            }
+            return DOUBLE;
+        }
+
+        private static Kind ofPrimitiveArray(Class<?> componentType) {
+            if (componentType == boolean.class) {
+                return BOOLEAN_ARRAY;
+            } else if (componentType == byte.class) {
+                return BYTE_ARRAY;
+            } else if (componentType == char.class) {
+                return CHAR_ARRAY;
+            } else if (componentType == short.class) {
+                return SHORT_ARRAY;
+            } else if (componentType == int.class) {
+                return INT_ARRAY;
+            } else if (componentType == long.class) {
+                return LONG_ARRAY;
+            } else if (componentType == float.class) {
+                return FLOAT_ARRAY;
+            }
+            return DOUBLE_ARRAY;
+        }
+
+        /**
+         * Returns whether the kind is a primitive value.
+         *
+         * @return true, if the kind is a primitive value
+         */
+        boolean isPrimitive() {
+            return ordinal() <= DOUBLE.ordinal();
+        }
+
+        /**
+         * Returns whether the kind is an array of primitive values.
+         *
+         * @return true, if the kind is an array of primitive values
+         */
+        boolean isPrimitiveArray() {
+            return ordinal() >= BOOLEAN_ARRAY.ordinal() && ordinal() <= DOUBLE_ARRAY.ordinal();
+        }
+
+        /**
+         * Returns whether the kind is an array or a collection, whose length
+         * can be compared before its elements.
+         *
+         * @return true, if the kind is an array or a collection
+         */
+        boolean isContainer() {
+            return isPrimitiveArray() || this == STRING_ARRAY || this == DATE_ARRAY || this == TEMPORAL_ARRAY
+                    || this == COLLECTION || this == OBJECT_ARRAY;
+        }
+
+        /**
+         * Returns the relative cost of comparing two values of the kind, from
+         * {@code 0} for primitives to {@code 3} for arbitrary objects.
+         *
+         * @return the relative cost of comparing two values
+         */
+        int cost() {
+            if (isPrimitive()) {
+                return 0;
+            } else if (this == ENUM || this == STRING || this == DATE || this == TEMPORAL) {
+                return 1;
+            } else if (isContainer()) {
+                return 2;
+            }
+            return 3;
+        }
+    }
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final Kind kind;
+
+    /**
+     * Getter of type {@code (Object)T}, where {@code T} is the primitive type
+     * of the field or {@code Object}.
+     */
+    private final MethodHandle getter;
+
+    FieldAccessor(String name, Class<?> type, MethodHandle getter) {
+        this.name = name;
+        this.type = type;
+        this.kind = Kind.of(type);
+        this.getter = getter.asType(getterType(type));
+    }
+
+    /**
+     * Creates the accessor of a field, whose getter is a constant in a hidden
+     * class of its own if possible.
+     *
+     * @param name   the name of the field
+     * @param type   the declared type of the field
+     * @param getter the getter of the field, of type {@code (C)T}
+     * @return the accessor of the field
+     */
+    static FieldAccessor of(String name, Class<?> type, MethodHandle getter) {
+        if (Objects.isNull(TEMPLATE)) {
+            return new FieldAccessor(name, type, getter);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(TEMPLATE, getter.asType(getterType(type)), true);
+            return (FieldAccessor) lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class, String.class, Class.class)).invoke(name, type);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static MethodType getterType(Class<?> type) {
+        return MethodType.methodType(type.isPrimitive() ? type : Object.class, Object.class);
+    }
+
+    private static byte[] template() {
+        try (InputStream in = FieldAccessor.class.getResourceAsStream("ConstantFieldAccessor.class")) {
+            return Objects.isNull(in) ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    boolean getBoolean(Object target) {
+        try {
+            return (boolean) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    byte getByte(Object target) {
+        try {
+            return (byte) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    char getChar(Object target) {
+        try {
+            return (char) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    short getShort(Object target) {
+        try {
+            return (short) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    int getInt(Object target) {
+        try {
+            return (int) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    long getLong(Object target) {
+        try {
+            return (long) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    float getFloat(Object target) {
+        try {
+            return (float) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    double getDouble(Object target) {
+        try {
+            return (double) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -15,30 +15,316 @@
  */
 package com.github.artanpg.core.utils.builder;
 
+import com.github.artanpg.core.utils.Asserts;
+
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 
 /**
  * Assists in implementing {@link Object#hashCode()} methods.
+ * <p>The values are combined by the classic {@code 17/37} polynomial, or by
+ * the 64-bit mixing function of {@link HashMode#MIX64}, which distributes
+ * the composite keys of large hash tables better:
+ * <pre>{@code
+ * long hash = HashCodeBuilder.of(HashMode.MIX64).append(tenantId).append(id).toLongHashCode();
+ * }</pre>
+ * <p>On hot paths, the static {@code combine} methods compute the same
+ * {@code hashCode} as the classic mode without creating a builder:
+ * <pre>{@code
+ * int hash = HashCodeBuilder.INITIAL_HASH;
+ * hash = HashCodeBuilder.combine(hash, tenantId);
+ * hash = HashCodeBuilder.combine(hash, name);
+ * }</pre>
  *
  * @author Mohammad Yazdian
  */
 public class HashCodeBuilder implements Builder<Integer> {
 
+    /**
+     * The {@code hashCode} of the classic mode before any value is appended,
+     * from which the {@code combine} methods start.
+     */
+    public static final int INITIAL_HASH = 17;
+
     private static final int CONSTANT = 37;
 
+    /**
+     * The function combining the values.
+     */
+    private final HashMode mode;
+
     /**
      * Running total of the hashCode.
      */
     private int iTotal;
 
-    private HashCodeBuilder() {
-        iTotal = 17;
+    /**
+     * Running total of the 64-bit hashCode of {@link HashMode#MIX64}.
+     */
+    private long lTotal;
+
+    private HashCodeBuilder(HashMode mode) {
+        Asserts.notNull(mode, "The mode can not be null");
+
+        this.mode = mode;
+        reset();
     }
 
     public static HashCodeBuilder of() {
-        return new HashCodeBuilder();
+        return new HashCodeBuilder(HashMode.CLASSIC);
+    }
+
+    public static HashCodeBuilder of(HashMode mode) {
+        return new HashCodeBuilder(mode);
+    }
+
+    /**
+     * Computes the {@code hashCode} of all the instance fields of the given
+     * object, as {@link #appendFields(Object)} does.
+     *
+     * @param object the object to compute the {@code hashCode} for
+     * @return {@code hashCode} based on the fields of the object
+     */
+    public static int reflectionHashCode(Object object) {
+        return of().appendFields(object).toHashCode();
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code boolean} value into the given
+     * {@code hashCode}, as {@link #append(boolean)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, boolean value) {
+        return hash * CONSTANT + Boolean.hashCode(value);
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code boolean[]} values into the
+     * given {@code hashCode}, as {@link #append(boolean[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, boolean[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code byte} value into the given
+     * {@code hashCode}, as {@link #append(byte)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, byte value) {
+        return hash * CONSTANT + value;
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code byte[]} values into the
+     * given {@code hashCode}, as {@link #append(byte[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, byte[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code char} value into the given
+     * {@code hashCode}, as {@link #append(char)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, char value) {
+        return hash * CONSTANT + value;
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code char[]} values into the
+     * given {@code hashCode}, as {@link #append(char[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, char[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code short} value into the given
+     * {@code hashCode}, as {@link #append(short)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, short value) {
+        return hash * CONSTANT + value;
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code short[]} values into the
+     * given {@code hashCode}, as {@link #append(short[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, short[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code int} value into the given
+     * {@code hashCode}, as {@link #append(int)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, int value) {
+        return hash * CONSTANT + value;
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code int[]} values into the
+     * given {@code hashCode}, as {@link #append(int[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, int[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code long} value into the given
+     * {@code hashCode}, as {@link #append(long)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, long value) {
+        return hash * CONSTANT + Long.hashCode(value);
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code long[]} values into the
+     * given {@code hashCode}, as {@link #append(long[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, long[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code float} value into the given
+     * {@code hashCode}, as {@link #append(float)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, float value) {
+        return hash * CONSTANT + Float.hashCode(value);
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code float[]} values into the
+     * given {@code hashCode}, as {@link #append(float[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, float[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code double} value into the given
+     * {@code hashCode}, as {@link #append(double)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, double value) {
+        return hash * CONSTANT + Long.hashCode(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code double[]} values into the
+     * given {@code hashCode}, as {@link #append(double[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, double[] values) {
+        return hash * CONSTANT + Hashes.polynomial(values);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a {@code Object} value into the given
+     * {@code hashCode}, as {@link #append(Object)} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash  the {@code hashCode} of the preceding values
+     * @param value the value to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, Object value) {
+        return hash * CONSTANT + Objects.hashCode(value);
+    }
+
+    /**
+     * Combines the {@code hashCode} of {@code Object[]} values into the
+     * given {@code hashCode}, as {@link #append(Object[])} does in the
+     * {@link HashMode#CLASSIC} mode.
+     *
+     * @param hash   the {@code hashCode} of the preceding values
+     * @param values the values to add to the {@code hashCode}
+     * @return the combined {@code hashCode}
+     */
+    public static int combine(int hash, Object[] values) {
+        return hash * CONSTANT + Arrays.deepHashCode(values);
     }
 
     /**
@@ -48,7 +334,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(boolean value) {
-        iTotal = iTotal * CONSTANT + (value ? Boolean.hashCode(true) : Boolean.hashCode(false));
+        add(Boolean.hashCode(value));
         return this;
     }
 
@@ -59,7 +345,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(boolean[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -70,7 +360,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(byte value) {
-        iTotal = iTotal * CONSTANT + value;
+        add(value);
         return this;
     }
 
@@ -81,7 +371,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(byte[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -92,7 +386,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(char value) {
-        iTotal = iTotal * CONSTANT + value;
+        add(value);
         return this;
     }
 
@@ -103,7 +397,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(char[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -114,7 +412,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(short value) {
-        iTotal = iTotal * CONSTANT + value;
+        add(value);
         return this;
     }
 
@@ -125,7 +423,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(short[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -136,7 +438,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(int value) {
-        iTotal = iTotal * CONSTANT + value;
+        add(value);
         return this;
     }
 
@@ -147,7 +449,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(int[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -158,7 +464,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(long value) {
-        iTotal = iTotal * CONSTANT + Long.hashCode(value);
+        add(value);
         return this;
     }
 
@@ -169,7 +475,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(long[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -180,7 +490,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(float value) {
-        iTotal = iTotal * CONSTANT + Float.hashCode(value);
+        add(Float.hashCode(value));
         return this;
     }
 
@@ -191,7 +501,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(float[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -202,7 +516,7 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(double value) {
-        iTotal = iTotal * CONSTANT + Double.hashCode(value);
+        add(Double.doubleToLongBits(value));
         return this;
     }
 
@@ -213,7 +527,11 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(double[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Hashes.polynomial(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
@@ -224,29 +542,111 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(Object value) {
-        iTotal = iTotal * CONSTANT + Objects.hashCode(value);
+        add(Objects.hashCode(value));
         return this;
     }
 
     /**
      * Append a {@code hashCode} for a {@code Object[]} values.
+     * <p>Nested arrays are hashed by their elements, as in
+     * {@link Arrays#deepHashCode(Object[])}, consistent with
+     * {@link EqualsBuilder#append(Object[], Object[])}.
      *
      * @param values the values to add to the {@code hashCode}
      * @return {@code this} instance.
      */
     public HashCodeBuilder append(Object[] values) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(values);
+        if (mode == HashMode.CLASSIC) {
+            add(Arrays.deepHashCode(values));
+        } else {
+            add(Hashes.hash(values));
+        }
         return this;
     }
 
     /**
-     * Append a {@code hashCode} for a {@code Object} value.
+     * Append a {@code hashCode} for a {@code Collection} values.
+     * <p>The elements are iterated in place, giving the same result as
+     * {@link Arrays#deepHashCode(Object[])} over the elements, so that
+     * elements which are arrays are hashed by their contents. The elements of a
+     * {@link Set} are hashed regardless of their order, as in
+     * {@link Set#hashCode()}, consistent with
+     * {@link EqualsBuilder#append(Collection, Collection)}, and the elements
+     * of lists supporting fast random access are read by index.
      *
-     * @param value the value to add to the {@code hashCode}
+     * @param value the values to add to the {@code hashCode}
      * @return {@code this} instance.
      */
     public <T> HashCodeBuilder append(Collection<T> value) {
-        iTotal = iTotal * CONSTANT + Arrays.hashCode(value.toArray());
+        if (mode != HashMode.CLASSIC) {
+            add(Hashes.hash(value));
+            return this;
+        }
+        int hashCode = 0;
+        if (value instanceof Set) {
+            for (T element : value) {
+                hashCode += Hashes.deepHashCode(element);
+            }
+        } else if (value instanceof RandomAccess && value instanceof List<T> list) {
+            hashCode = 1;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                hashCode = 31 * hashCode + Hashes.deepHashCode(list.get(i));
+            }
+        } else if (Objects.nonNull(value)) {
+            hashCode = 1;
+            for (T element : value) {
+                hashCode = 31 * hashCode + Hashes.deepHashCode(element);
+            }
+        }
+        add(hashCode);
+        return this;
+    }
+
+    /**
+     * Appends all the instance fields of the given object, except static and
+     * transient ones, with the overload matching the declared type of each
+     * field.
+     * <p>The fields are discovered once per class and read through cached
+     * {@code MethodHandle}s, so primitive fields are not boxed. Nested arrays
+     * are hashed by their elements, consistent with
+     * {@link EqualsBuilder#appendFields(Object, Object)}.
+     * <p>An object of a class whose fields the module system does not allow
+     * to read, such as {@link Integer} or {@link java.time.LocalDate}, is
+     * appended by its own {@code hashCode}.
+     *
+     * @param object the object whose fields are added to the {@code hashCode}
+     * @return {@code this} instance.
+     */
+    public HashCodeBuilder appendFields(Object object) {
+        Asserts.notNull(object, "The object can not be null");
+
+        ClassFields classFields = ClassFields.of(object.getClass());
+        if (!classFields.isAccessible()) {
+            return append(object.hashCode());
+        }
+        for (FieldAccessor field : classFields.fields()) {
+            switch (field.getKind()) {
+                case BOOLEAN -> append(field.getBoolean(object));
+                case BYTE -> append(field.getByte(object));
+                case CHAR -> append(field.getChar(object));
+                case SHORT -> append(field.getShort(object));
+                case INT -> append(field.getInt(object));
+                case LONG -> append(field.getLong(object));
+                case FLOAT -> append(field.getFloat(object));
+                case DOUBLE -> append(field.getDouble(object));
+                case BOOLEAN_ARRAY -> append((boolean[]) field.get(object));
+                case BYTE_ARRAY -> append((byte[]) field.get(object));
+                case CHAR_ARRAY -> append((char[]) field.get(object));
+                case SHORT_ARRAY -> append((short[]) field.get(object));
+                case INT_ARRAY -> append((int[]) field.get(object));
+                case LONG_ARRAY -> append((long[]) field.get(object));
+                case FLOAT_ARRAY -> append((float[]) field.get(object));
+                case DOUBLE_ARRAY -> append((double[]) field.get(object));
+                case STRING_ARRAY, DATE_ARRAY, TEMPORAL_ARRAY, OBJECT_ARRAY -> append((Object[]) field.get(object));
+                case COLLECTION -> append((Collection<?>) field.get(object));
+                default -> append(field.get(object));
+            }
+        }
         return this;
     }
 
@@ -257,7 +657,20 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code this} instance.
      */
     public HashCodeBuilder appendSuper(int superHashCode) {
-        iTotal = iTotal * CONSTANT + superHashCode;
+        add(superHashCode);
+        return this;
+    }
+
+    /**
+     * Clears the appended values, so that the builder can be reused for
+     * another {@code hashCode} without creating a new one. A builder is not
+     * thread-safe, so a reused builder must be confined to one thread.
+     *
+     * @return {@code this} instance.
+     */
+    public HashCodeBuilder reset() {
+        iTotal = INITIAL_HASH;
+        lTotal = Hashes.SEED;
         return this;
     }
 
@@ -267,7 +680,47 @@ public class HashCodeBuilder implements Builder<Integer> {
      * @return {@code hashCode} based on the fields appended
      */
     public int toHashCode() {
-        return iTotal;
+        if (mode == HashMode.CLASSIC) {
+            return iTotal;
+        }
+        return Long.hashCode(toLongHashCode());
+    }
+
+    /**
+     * Gets the computed 64-bit {@code hashCode}, of which
+     * {@link #toHashCode()} keeps 32 bits. In the {@link HashMode#CLASSIC}
+     * mode, it is the 32-bit {@code hashCode} widened.
+     *
+     * @return 64-bit {@code hashCode} based on the fields appended
+     */
+    public long toLongHashCode() {
+        if (mode == HashMode.CLASSIC) {
+            return iTotal;
+        }
+        return Hashes.avalanche(lTotal);
+    }
+
+    /**
+     * Combines the {@code hashCode} of a value into the running total.
+     */
+    private void add(int hashCode) {
+        if (mode == HashMode.CLASSIC) {
+            iTotal = iTotal * CONSTANT + hashCode;
+        } else {
+            lTotal = Hashes.round(lTotal, hashCode);
+        }
+    }
+
+    /**
+     * Combines a 64-bit value into the running total, folded to 32 bits in
+     * the {@link HashMode#CLASSIC} mode.
+     */
+    private void add(long value) {
+        if (mode == HashMode.CLASSIC) {
+            iTotal = iTotal * CONSTANT + Long.hashCode(value);
+        } else {
+            lTotal = Hashes.round(lTotal, value);
+        }
     }
 
     @Override
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+/**
+ * The function with which {@link HashCodeBuilder} combines the appended
+ * values.
+ *
+ * @author Mohammad Yazdian
+ */
+public enum HashMode {
+
+    /**
+     * The classic {@code 17/37} polynomial, whose {@code hashCode} is the
+     * same as in the previous versions. Values which differ by small deltas
+     * give close hash codes, which may cluster in large hash tables.
+     */
+    CLASSIC,
+
+    /**
+     * A 64-bit mixing function: each value is combined by a multiply and
+     * rotate round, as in xxHash, and the result is finalized by the
+     * avalanche of MurmurHash3, so that every bit of the values affects every
+     * bit of the hash. Primitive arrays are hashed in independent lanes of
+     * four values. The full result is returned by
+     * {@link HashCodeBuilder#toLongHashCode()}.
+     */
+    MIX64
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * The hash functions of the primitive arrays and of {@link HashMode#MIX64}.
+ * <p>The {@code polynomial} functions give the same results as
+ * {@link java.util.Arrays#hashCode}, four elements at a time: the running
+ * hash is multiplied by {@code 31^4} once per block, and the four elements
+ * by the lower powers of {@code 31}, so the multiplications of a block do
+ * not depend on each other. When the build includes {@code VectorHashes},
+ * by its {@code vector} profile, the {@code jdk.incubator.vector} module is
+ * in the boot layer, for example by {@code --add-modules jdk.incubator.vector},
+ * and the platform has vectors of 256 bits, arrays of at least
+ * {@value #VECTOR_THRESHOLD} elements are hashed by {@link #VECTOR_HASHES}
+ * instead, with the same results.
+ * <p>The 64-bit values are combined by the round of xxHash64. Arrays are
+ * hashed in four independent lanes, so that the rounds of consecutive
+ * elements do not wait for each other, and the lanes are merged with the
+ * length of the array.
+ *
+ * @author Mohammad Yazdian
+ */
+abstract class Hashes {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    /**
+     * The initial value of a running hash.
+     */
+    static final long SEED = PRIME_5;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The length from which the {@code polynomial} functions use the Vector
+     * API, below which the setup of the lanes costs more than it saves.
+     */
+    static final int VECTOR_THRESHOLD = 32;
+
+    /**
+     * The {@code polynomial} functions on the Vector API, or {@code null}
+     * where they are not available.
+     */
+    static final PolynomialHashes VECTOR_HASHES = vectorHashes();
+
+    private static final int POW_2 = 31 * 31;
+
+    private static final int POW_3 = 31 * 31 * 31;
+
+    private static final int POW_4 = 31 * 31 * 31 * 31;
+
+    private Hashes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Loads {@code VectorHashes} by name, so that this class does not link
+     * against the incubating module, nor against a class the default build
+     * leaves out.
+     */
+    private static PolynomialHashes vectorHashes() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> type = Class.forName(Hashes.class.getPackageName() + ".VectorHashes");
+            return (PolynomialHashes) MethodHandles.lookup()
+                    .findStatic(type, "ofPreferredSpecies", MethodType.methodType(PolynomialHashes.class))
+                    .invoke();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not load the vector hashes", e);
+        }
+    }
+
+    static int polynomial(boolean[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + (values[i] ? 1231 : 1237) * POW_3 + (values[i + 1] ? 1231 : 1237) * POW_2
+                    + (values[i + 2] ? 1231 : 1237) * 31 + (values[i + 3] ? 1231 : 1237);
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + (values[i] ? 1231 : 1237);
+        }
+        return hash;
+    }
+
+    static int polynomial(byte[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + values[i] * POW_3 + values[i + 1] * POW_2
+                    + values[i + 2] * 31 + values[i + 3];
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    static int polynomial(char[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + values[i] * POW_3 + values[i + 1] * POW_2
+                    + values[i + 2] * 31 + values[i + 3];
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    static int polynomial(short[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + values[i] * POW_3 + values[i + 1] * POW_2
+                    + values[i + 2] * 31 + values[i + 3];
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    static int polynomial(int[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + values[i] * POW_3 + values[i + 1] * POW_2
+                    + values[i + 2] * 31 + values[i + 3];
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    static int polynomial(long[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + Long.hashCode(values[i]) * POW_3 + Long.hashCode(values[i + 1]) * POW_2
+                    + Long.hashCode(values[i + 2]) * 31 + Long.hashCode(values[i + 3]);
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + Long.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    static int polynomial(float[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + Float.floatToIntBits(values[i]) * POW_3 + Float.floatToIntBits(values[i + 1]) * POW_2
+                    + Float.floatToIntBits(values[i + 2]) * 31 + Float.floatToIntBits(values[i + 3]);
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + Float.floatToIntBits(values[i]);
+        }
+        return hash;
+    }
+
+    static int polynomial(double[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        if (Objects.nonNull(VECTOR_HASHES) && values.length >= VECTOR_THRESHOLD) {
+            return VECTOR_HASHES.polynomial(values);
+        }
+        int length = values.length;
+        int hash = 1;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            hash = hash * POW_4 + Double.hashCode(values[i]) * POW_3 + Double.hashCode(values[i + 1]) * POW_2
+                    + Double.hashCode(values[i + 2]) * 31 + Double.hashCode(values[i + 3]);
+        }
+        for (; i < length; i++) {
+            hash = 31 * hash + Double.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the {@code hashCode} of an element of an array or a collection,
+     * hashing the nested arrays by their elements as
+     * {@link Arrays#deepHashCode(Object[])} does, so that it is consistent with
+     * {@link Objects#deepEquals(Object, Object)}.
+     *
+     * @param value the element to hash
+     * @return the deep {@code hashCode} of the element
+     */
+    static int deepHashCode(Object value) {
+        if (Objects.isNull(value) || !value.getClass().isArray()) {
+            return Objects.hashCode(value);
+        }
+        if (value instanceof Object[] values) {
+            return Arrays.deepHashCode(values);
+        } else if (value instanceof int[] values) {
+            return polynomial(values);
+        } else if (value instanceof long[] values) {
+            return polynomial(values);
+        } else if (value instanceof byte[] values) {
+            return polynomial(values);
+        } else if (value instanceof char[] values) {
+            return polynomial(values);
+        } else if (value instanceof short[] values) {
+            return polynomial(values);
+        } else if (value instanceof double[] values) {
+            return polynomial(values);
+        } else if (value instanceof float[] values) {
+            return polynomial(values);
+        }
+        return polynomial((boolean[]) value);
+    }
+
+    /**
+     * Combines a value into a running hash.
+     *
+     * @param hash  the running hash
+     * @param value the value to combine
+     * @return the new running hash
+     */
+    static long round(long hash, long value) {
+        return Long.rotateLeft(hash + value * PRIME_2, 31) * PRIME_1;
+    }
+
+    /**
+     * Spreads every bit of the hash over all the bits of the result, with the
+     * finalizer of MurmurHash3.
+     *
+     * @param hash the running hash
+     * @return the final hash
+     */
+    static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    static long hash(boolean[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        long hash = SEED;
+        for (boolean value : values) {
+            hash = round(hash, value ? 1231 : 1237);
+        }
+        return hash + values.length;
+    }
+
+    /**
+     * Hashes the bytes eight at a time, as little-endian {@code long}s, in
+     * four lanes of 32 bytes.
+     */
+    static long hash(byte[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash;
+        if (length >= 32) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 32; i += 32) {
+                v1 = round(v1, (long) LONGS.get(values, i));
+                v2 = round(v2, (long) LONGS.get(values, i + 8));
+                v3 = round(v3, (long) LONGS.get(values, i + 16));
+                v4 = round(v4, (long) LONGS.get(values, i + 24));
+            }
+            hash = merge(v1, v2, v3, v4);
+        } else {
+            hash = SEED;
+        }
+        for (; i <= length - 8; i += 8) {
+            hash = round(hash, (long) LONGS.get(values, i));
+        }
+        for (; i < length; i++) {
+            hash = round(hash, values[i]);
+        }
+        return hash + length;
+    }
+
+    static long hash(char[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, values[i]);
+                v2 = round(v2, values[i + 1]);
+                v3 = round(v3, values[i + 2]);
+                v4 = round(v4, values[i + 3]);
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, values[i]);
+        }
+        return hash + length;
+    }
+
+    static long hash(short[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, values[i]);
+                v2 = round(v2, values[i + 1]);
+                v3 = round(v3, values[i + 2]);
+                v4 = round(v4, values[i + 3]);
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, values[i]);
+        }
+        return hash + length;
+    }
+
+    static long hash(int[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, values[i]);
+                v2 = round(v2, values[i + 1]);
+                v3 = round(v3, values[i + 2]);
+                v4 = round(v4, values[i + 3]);
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, values[i]);
+        }
+        return hash + length;
+    }
+
+    static long hash(long[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, values[i]);
+                v2 = round(v2, values[i + 1]);
+                v3 = round(v3, values[i + 2]);
+                v4 = round(v4, values[i + 3]);
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, values[i]);
+        }
+        return hash + length;
+    }
+
+    /**
+     * Hashes the floats by {@link Float#floatToIntBits(float)}, consistent
+     * with {@link java.util.Arrays#equals(float[], float[])}.
+     */
+    static long hash(float[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, Float.floatToIntBits(values[i]));
+                v2 = round(v2, Float.floatToIntBits(values[i + 1]));
+                v3 = round(v3, Float.floatToIntBits(values[i + 2]));
+                v4 = round(v4, Float.floatToIntBits(values[i + 3]));
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, Float.floatToIntBits(values[i]));
+        }
+        return hash + length;
+    }
+
+    /**
+     * Hashes the doubles by {@link Double#doubleToLongBits(double)},
+     * consistent with {@link java.util.Arrays#equals(double[], double[])}.
+     */
+    static long hash(double[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int length = values.length;
+        int i = 0;
+        long hash = SEED;
+        if (length >= 4) {
+            long v1 = SEED + PRIME_1 + PRIME_2;
+            long v2 = SEED + PRIME_2;
+            long v3 = SEED;
+            long v4 = SEED - PRIME_1;
+            for (; i <= length - 4; i += 4) {
+                v1 = round(v1, Double.doubleToLongBits(values[i]));
+                v2 = round(v2, Double.doubleToLongBits(values[i + 1]));
+                v3 = round(v3, Double.doubleToLongBits(values[i + 2]));
+                v4 = round(v4, Double.doubleToLongBits(values[i + 3]));
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        for (; i < length; i++) {
+            hash = round(hash, Double.doubleToLongBits(values[i]));
+        }
+        return hash + length;
+    }
+
+    static long hash(Object[] values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        long hash = SEED;
+        for (Object value : values) {
+            hash = round(hash, deepHashCode(value));
+        }
+        return hash + values.length;
+    }
+
+    /**
+     * Hashes the elements of a {@link Set} regardless of their order, as the
+     * sum of their mixed hash codes, and the elements of other collections
+     * in iteration order, by index for lists supporting fast random access.
+     */
+    static long hash(Collection<?> values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        long hash = SEED;
+        if (values instanceof Set) {
+            long sum = 0;
+            for (Object value : values) {
+                sum += avalanche(round(SEED, deepHashCode(value)));
+            }
+            return round(hash, sum) + values.size();
+        }
+        if (values instanceof RandomAccess && values instanceof List<?> list) {
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                hash = round(hash, deepHashCode(list.get(i)));
+            }
+            return hash + size;
+        }
+        int length = 0;
+        for (Object value : values) {
+            hash = round(hash, deepHashCode(value));
+            length++;
+        }
+        return hash + length;
+    }
+
+    private static long merge(long v1, long v2, long v3, long v4) {
+        long hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12)
+                + Long.rotateLeft(v4, 18);
+        hash = (hash ^ round(0, v1)) * PRIME_1 + PRIME_4;
+        hash = (hash ^ round(0, v2)) * PRIME_1 + PRIME_4;
+        hash = (hash ^ round(0, v3)) * PRIME_1 + PRIME_4;
+        hash = (hash ^ round(0, v4)) * PRIME_1 + PRIME_4;
+        return hash * PRIME_3;
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.builder.FieldAccessor.Kind;
+import com.github.artanpg.core.utils.builder.strategy.ToStringStyleStrategy;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ToStringBuilder} which only records the appended fields and
+ * formats them when the {@code toString} is actually needed, such as for the
+ * arguments of a log statement which is usually disabled.
+ * <p>The fields are recorded into a compact descriptor: primitive values as
+ * their bits without boxing, and references as they are. Nothing is
+ * allocated for the descriptor until the first field is appended, and the
+ * primitive values and the references are only stored once a field of that
+ * sort is appended. Arrays, collections
+ * and objects are therefore rendered with the content they have when
+ * {@link #toString()} is first called. The rendered {@code toString} is kept,
+ * so it is formatted at most once.
+ * <pre>{@code
+ * log.debug("Saving {}", LazyToStringBuilder.defaultStyle(Order.class)
+ *         .append("id", id)
+ *         .append("total", total));
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public final class LazyToStringBuilder implements Builder<String>, Supplier<String> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final String[] NO_NAMES = {};
+
+    private static final Kind[] NO_KINDS = {};
+
+    private static final long[] NO_PRIMITIVES = {};
+
+    private static final Object[] NO_REFERENCES = {};
+
+    /**
+     * The class whose default style is used, or {@code null} for the other
+     * styles.
+     */
+    private final Class<?> aClass;
+
+    /**
+     * Creates the style strategy at rendering, or {@code null} for the
+     * default style.
+     */
+    private final Supplier<? extends ToStringStyleStrategy> styleFactory;
+
+    private String[] names = NO_NAMES;
+
+    private Kind[] kinds = NO_KINDS;
+
+    /**
+     * The bits of the primitive values, indexed like the names, allocated
+     * when the first primitive value is recorded.
+     */
+    private long[] primitives = NO_PRIMITIVES;
+
+    /**
+     * The references, indexed like the names, allocated when the first
+     * reference is recorded.
+     */
+    private Object[] references = NO_REFERENCES;
+
+    private int size;
+
+    /**
+     * The rendered {@code toString}, or {@code null} if not rendered yet.
+     */
+    private String rendered;
+
+    private LazyToStringBuilder(Class<?> aClass, Supplier<? extends ToStringStyleStrategy> styleFactory) {
+        this.aClass = aClass;
+        this.styleFactory = styleFactory;
+    }
+
+    /**
+     * Constructs for using the default format style.
+     *
+     * @return {@code this} instance
+     */
+    public static <T> LazyToStringBuilder defaultStyle(Class<T> aClass) {
+        Asserts.notNull(aClass, "The class can not be null");
+        return new LazyToStringBuilder(aClass, null);
+    }
+
+    /**
+     * Constructs for using the json format style.
+     *
+     * @return {@code this} instance
+     */
+    public static LazyToStringBuilder jsonStyle() {
+        return new LazyToStringBuilder(null, null);
+    }
+
+    /**
+     * Constructs for using the costume defined style, whose strategy is
+     * created only when the {@code toString} is rendered.
+     *
+     * @param styleFactory creates the style of the {@code toString}
+     * @return {@code this} instance
+     */
+    public static LazyToStringBuilder costumeStyle(Supplier<? extends ToStringStyleStrategy> styleFactory) {
+        Asserts.notNull(styleFactory, "The styleFactory can not be null");
+        return new LazyToStringBuilder(null, styleFactory);
+    }
+
+    /**
+     * Records the field name along with a {@code boolean} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, boolean value) {
+        record(fieldName, Kind.BOOLEAN, value ? 1 : 0, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code boolean[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, boolean[] values) {
+        record(fieldName, Kind.BOOLEAN_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code byte} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, byte value) {
+        record(fieldName, Kind.BYTE, value, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code byte[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, byte[] values) {
+        record(fieldName, Kind.BYTE_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code char} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, char value) {
+        record(fieldName, Kind.CHAR, value, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code char[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, char[] values) {
+        record(fieldName, Kind.CHAR_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code short} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, short value) {
+        record(fieldName, Kind.SHORT, value, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code short[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, short[] values) {
+        record(fieldName, Kind.SHORT_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with an {@code int} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, int value) {
+        record(fieldName, Kind.INT, value, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code int[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, int[] values) {
+        record(fieldName, Kind.INT_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code long} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, long value) {
+        record(fieldName, Kind.LONG, value, null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code long[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, long[] values) {
+        record(fieldName, Kind.LONG_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code float} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, float value) {
+        record(fieldName, Kind.FLOAT, Float.floatToRawIntBits(value), null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code float[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, float[] values) {
+        record(fieldName, Kind.FLOAT_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code double} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, double value) {
+        record(fieldName, Kind.DOUBLE, Double.doubleToRawLongBits(value), null);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code double[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, double[] values) {
+        record(fieldName, Kind.DOUBLE_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code String} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, String value) {
+        record(fieldName, Kind.STRING, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code String[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, String[] values) {
+        record(fieldName, Kind.STRING_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code Date} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, Date value) {
+        record(fieldName, Kind.DATE, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code Date[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, Date[] values) {
+        record(fieldName, Kind.DATE_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code TemporalAccessor} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, TemporalAccessor value) {
+        record(fieldName, Kind.TEMPORAL, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code TemporalAccessor[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, TemporalAccessor[] values) {
+        record(fieldName, Kind.TEMPORAL_ARRAY, 0, values);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code Collection<?>} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public <T> LazyToStringBuilder append(String fieldName, Collection<T> value) {
+        record(fieldName, Kind.COLLECTION, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with an {@code Enum<?>} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public LazyToStringBuilder append(String fieldName, Enum<?> value) {
+        record(fieldName, Kind.ENUM, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with a {@code T} value.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param value     the value to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public <T> LazyToStringBuilder append(String fieldName, T value) {
+        record(fieldName, Kind.OBJECT, 0, value);
+        return this;
+    }
+
+    /**
+     * Records the field name along with {@code T[]} values.
+     *
+     * @param fieldName the field name to add to the {@code toString}
+     * @param values    the values to add to the {@code toString}
+     * @return {@code this} instance
+     */
+    public <T> LazyToStringBuilder append(String fieldName, T[] values) {
+        record(fieldName, Kind.OBJECT_ARRAY, 0, values);
+        return this;
+    }
+
+    private void record(String fieldName, Kind kind, long primitive, Object reference) {
+        if (size == names.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            names = Arrays.copyOf(names, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+        }
+        names[size] = fieldName;
+        kinds[size] = kind;
+        if (kind.isPrimitive()) {
+            if (size >= primitives.length) {
+                primitives = Arrays.copyOf(primitives, names.length);
+            }
+            primitives[size] = primitive;
+        } else {
+            if (size >= references.length) {
+                references = Arrays.copyOf(references, names.length);
+            }
+            references[size] = reference;
+        }
+        size++;
+        rendered = null;
+    }
+
+    /**
+     * Formats the recorded fields through a {@link ToStringBuilder}.
+     */
+    private String render() {
+        ToStringBuilder builder;
+        if (Objects.nonNull(styleFactory)) {
+            builder = ToStringBuilder.costumeStyle(styleFactory.get());
+        } else if (Objects.nonNull(aClass)) {
+            builder = ToStringBuilder.defaultStyle(aClass);
+        } else {
+            builder = ToStringBuilder.jsonStyle();
+        }
+        for (int i = 0; i < size; i++) {
+            String name = names[i];
+            Kind kind = kinds[i];
+            long bits = kind.isPrimitive() ? primitives[i] : 0;
+            Object reference = kind.isPrimitive() ? null : references[i];
+            switch (kind) {
+                case BOOLEAN -> builder.append(name, bits != 0);
+                case BYTE -> builder.append(name, (byte) bits);
+                case CHAR -> builder.append(name, (char) bits);
+                case SHORT -> builder.append(name, (short) bits);
+                case INT -> builder.append(name, (int) bits);
+                case LONG -> builder.append(name, bits);
+                case FLOAT -> builder.append(name, Float.intBitsToFloat((int) bits));
+                case DOUBLE -> builder.append(name, Double.longBitsToDouble(bits));
+                case BOOLEAN_ARRAY -> builder.append(name, (boolean[]) reference);
+                case BYTE_ARRAY -> builder.append(name, (byte[]) reference);
+                case CHAR_ARRAY -> builder.append(name, (char[]) reference);
+                case SHORT_ARRAY -> builder.append(name, (short[]) reference);
+                case INT_ARRAY -> builder.append(name, (int[]) reference);
+                case LONG_ARRAY -> builder.append(name, (long[]) reference);
+                case FLOAT_ARRAY -> builder.append(name, (float[]) reference);
+                case DOUBLE_ARRAY -> builder.append(name, (double[]) reference);
+                case STRING -> builder.append(name, (String) reference);
+                case STRING_ARRAY -> builder.append(name, (String[]) reference);
+                case DATE -> builder.append(name, (Date) reference);
+                case DATE_ARRAY -> builder.append(name, (Date[]) reference);
+                case TEMPORAL -> builder.append(name, (TemporalAccessor) reference);
+                case TEMPORAL_ARRAY -> builder.append(name, (TemporalAccessor[]) reference);
+                case COLLECTION -> builder.append(name, (Collection<?>) reference);
+                case ENUM -> builder.append(name, (Enum<?>) reference);
+                case OBJECT_ARRAY -> builder.append(name, (Object[]) reference);
+                default -> builder.append(name, reference);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the {@code toString}, rendering it on the first call.
+     *
+     * @return the String {@code toString}
+     */
+    @Override
+    public String build() {
+        return toString();
+    }
+
+    /**
+     * Returns the {@code toString}, rendering it on the first call.
+     *
+     * @return the String {@code toString}
+     */
+    @Override
+    public String get() {
+        return toString();
+    }
+
+    @Override
+    public String toString() {
+        if (Objects.isNull(rendered)) {
+            rendered = render();
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+/**
+ * The {@code polynomial} functions of the primitive arrays, giving the same
+ * results as {@link java.util.Arrays#hashCode}, implemented apart from
+ * {@link Hashes} when they link against an optional module, as
+ * {@code VectorHashes} does.
+ *
+ * @author Mohammad Yazdian
+ */
+interface PolynomialHashes {
+
+    int polynomial(boolean[] values);
+
+    int polynomial(byte[] values);
+
+    int polynomial(char[] values);
+
+    int polynomial(short[] values);
+
+    int polynomial(int[] values);
+
+    int polynomial(long[] values);
+
+    int polynomial(float[] values);
+
+    int polynomial(double[] values);
+}
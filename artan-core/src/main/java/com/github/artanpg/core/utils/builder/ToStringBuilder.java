@@ -17,13 +17,20 @@ package com.github.artanpg.core.utils.builder;
 
 import com.github.artanpg.core.utils.Asserts;
 import com.github.artanpg.core.utils.StringUtils;
+import com.github.artanpg.core.utils.builder.strategy.AbstractToStringStyleStrategy;
 import com.github.artanpg.core.utils.builder.strategy.DefaultToStringStyle;
 import com.github.artanpg.core.utils.builder.strategy.JsonToStringStyle;
+import com.github.artanpg.core.utils.builder.strategy.StructuredToStringStyle;
+import com.github.artanpg.core.utils.builder.strategy.ToStringLimits;
+import com.github.artanpg.core.utils.builder.strategy.ToStringSink;
+import com.github.artanpg.core.utils.builder.strategy.ToStringStyle;
 import com.github.artanpg.core.utils.builder.strategy.ToStringStyleStrategy;
+import com.github.artanpg.core.utils.builder.strategy.ToStringStylePool;
 
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Objects;
 
 /**
  * Assists in implementing {@link Object#toString()} methods.
@@ -32,10 +39,31 @@ import java.util.Date;
  */
 public class ToStringBuilder implements Builder<String> {
 
+    private static final ToStringStylePool JSON_STYLE_POOL = ToStringStylePool.of(JsonToStringStyle::of);
+
+    private static final ToStringStylePool DEFAULT_STYLE_POOL =
+            ToStringStylePool.of(() -> DefaultToStringStyle.of(Object.class));
+
+    private static final ToStringStyle GRAPH_STYLE =
+            ToStringStyle.DEFAULT.toBuilder().limits(ToStringLimits.defaults()).build();
+
+    /**
+     * The style of output to use for override {@code toString} method, or
+     * {@code null} once a pooled strategy has been returned to its pool.
+     */
+    private ToStringStyleStrategy styleStrategy;
+
+    /**
+     * The pool to which the style strategy is returned after the
+     * {@code toString} was built, or {@code null} if it is not pooled.
+     */
+    private ToStringStylePool pool;
+
     /**
-     * The style of output to use for override {@code toString} method.
+     * The profile that learns the length of the {@code toString}, or
+     * {@code null} if the length is not profiled.
      */
-    private final ToStringStyleStrategy styleStrategy;
+    private ToStringSizeProfile sizeProfile;
 
     /**
      * Constructs a builder for using the defined output style.
@@ -49,6 +77,29 @@ public class ToStringBuilder implements Builder<String> {
         styleStrategy.appendStarter();
     }
 
+    /**
+     * Constructs a builder for using a style strategy taken from the pool.
+     *
+     * @param styleStrategy the pooled style of the {@code toString} to create
+     * @param pool          the pool to return the style strategy to
+     */
+    private ToStringBuilder(AbstractToStringStyleStrategy styleStrategy, ToStringStylePool pool) {
+        this(styleStrategy);
+        this.pool = pool;
+    }
+
+    /**
+     * Constructs a builder whose {@code toString} length is recorded in the
+     * given size profile.
+     *
+     * @param styleStrategy the style of the {@code toString} to create
+     * @param sizeProfile   the profile to record the length in
+     */
+    private ToStringBuilder(ToStringStyleStrategy styleStrategy, ToStringSizeProfile sizeProfile) {
+        this(styleStrategy);
+        this.sizeProfile = sizeProfile;
+    }
+
     /**
      * Constructs for using the json format style.
      *
@@ -60,11 +111,169 @@ public class ToStringBuilder implements Builder<String> {
 
     /**
      * Constructs for using the default format style.
+     * <p>The buffer is pre-sized from the {@link ToStringSizeProfile} of the
+     * class, which learns from the length of each built {@code toString}.
      *
      * @return {@code this} instance
      */
     public static <T> ToStringBuilder defaultStyle(Class<T> aClass) {
-        return new ToStringBuilder(DefaultToStringStyle.of(aClass));
+        ToStringSizeProfile sizeProfile = ToStringSizeProfile.of(aClass);
+        return new ToStringBuilder(DefaultToStringStyle.of(aClass, sizeProfile.getCapacity()), sizeProfile);
+    }
+
+    /**
+     * Constructs for using the json format style which streams the output to
+     * the given target, to be completed by {@link #flush()}.
+     *
+     * @param target where the output is written to
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder jsonStyle(Appendable target) {
+        Asserts.notNull(target, "The target can not be null");
+        JsonToStringStyle styleStrategy = JsonToStringStyle.of();
+        styleStrategy.setTarget(target);
+        return new ToStringBuilder(styleStrategy);
+    }
+
+    /**
+     * Constructs for using the default format style which streams the output
+     * to the given target, to be completed by {@link #flush()}.
+     *
+     * @param target where the output is written to
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder defaultStyle(Class<T> aClass, Appendable target) {
+        Asserts.notNull(target, "The target can not be null");
+        DefaultToStringStyle styleStrategy = DefaultToStringStyle.of(aClass);
+        styleStrategy.setTarget(target);
+        return new ToStringBuilder(styleStrategy);
+    }
+
+    /**
+     * Constructs for using the json format style, with a style strategy and
+     * buffer recycled from a shared pool.
+     * <p>The strategy is returned to the pool once the {@code toString} has
+     * been built, and the builder throws {@link IllegalStateException} if it
+     * is used after that.
+     *
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder pooledJsonStyle() {
+        return new ToStringBuilder(JSON_STYLE_POOL.acquire(), JSON_STYLE_POOL);
+    }
+
+    /**
+     * Constructs for using the default format style, with a style strategy
+     * and buffer recycled from a shared pool.
+     * <p>The strategy is returned to the pool once the {@code toString} has
+     * been built, and the builder throws {@link IllegalStateException} if it
+     * is used after that.
+     *
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder pooledDefaultStyle(Class<T> aClass) {
+        AbstractToStringStyleStrategy styleStrategy = DEFAULT_STYLE_POOL.acquire();
+        styleStrategy.setClassName(aClass.getSimpleName());
+        return new ToStringBuilder(styleStrategy, DEFAULT_STYLE_POOL);
+    }
+
+    /**
+     * Constructs for using a style strategy recycled from the given pool.
+     * <p>The strategy is returned to the pool once the {@code toString} has
+     * been built, and the builder throws {@link IllegalStateException} if it
+     * is used after that.
+     *
+     * @param pool the pool of style strategies
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder pooledStyle(ToStringStylePool pool) {
+        Asserts.notNull(pool, "The pool can not be null");
+        return new ToStringBuilder(pool.acquire(), pool);
+    }
+
+    /**
+     * Constructs for using the default format style, bounded by the default
+     * {@link ToStringLimits} so that an arbitrary object graph, with cycles,
+     * deep nesting or large collections, is rendered at a bounded cost.
+     * <p>The object being rendered is not known, so a cycle back to it is
+     * cut only after it is rendered once more; {@link #graphStyleOf(Object)}
+     * cuts it at once.
+     *
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder graphStyle(Class<T> aClass) {
+        return new ToStringBuilder(DefaultToStringStyle.of(aClass, GRAPH_STYLE));
+    }
+
+    /**
+     * Constructs for using the default format style, bounded by the given
+     * limits on the depth, the elements per array or collection and the
+     * length of the output.
+     *
+     * @param limits the limits of the rendering
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder graphStyle(Class<T> aClass, ToStringLimits limits) {
+        Asserts.notNull(limits, "The limits can not be null");
+        DefaultToStringStyle styleStrategy = DefaultToStringStyle.of(aClass);
+        styleStrategy.setLimits(limits);
+        return new ToStringBuilder(styleStrategy);
+    }
+
+    /**
+     * Constructs for rendering the given object in the default format style,
+     * bounded by the default {@link ToStringLimits}. The object is the root
+     * of the graph, so a nested reference back to it is rendered by its
+     * class name and identity hash code.
+     *
+     * @param root the object whose {@code toString} is built
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder graphStyleOf(Object root) {
+        return graphStyleOf(root, ToStringLimits.defaults());
+    }
+
+    /**
+     * Constructs for rendering the given object in the default format style,
+     * bounded by the given limits. The object is the root of the graph, so a
+     * nested reference back to it is rendered by its class name and identity
+     * hash code.
+     *
+     * @param root   the object whose {@code toString} is built
+     * @param limits the limits of the rendering
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder graphStyleOf(Object root, ToStringLimits limits) {
+        Asserts.notNull(root, "The root can not be null");
+        Asserts.notNull(limits, "The limits can not be null");
+        DefaultToStringStyle styleStrategy = DefaultToStringStyle.of(root.getClass());
+        styleStrategy.setLimits(limits);
+        styleStrategy.setRoot(root);
+        return new ToStringBuilder(styleStrategy);
+    }
+
+    /**
+     * Constructs for using the default format style, with all the instance
+     * fields of the given object appended by {@link #appendFields(Object)}.
+     *
+     * @param object the object whose fields are added to the {@code toString}
+     * @return {@code this} instance
+     */
+    public static ToStringBuilder reflective(Object object) {
+        Asserts.notNull(object, "The object can not be null");
+        return defaultStyle(object.getClass()).appendFields(object);
+    }
+
+    /**
+     * Constructs for sending the appended fields to the given sink as typed
+     * key/value events, instead of formatting them, such as for a structured
+     * logger. The built {@code toString} is empty.
+     *
+     * @param sink the receiver of the fields
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder structuredStyle(Class<T> aClass, ToStringSink sink) {
+        return new ToStringBuilder(StructuredToStringStyle.of(aClass, sink));
     }
 
     /**
@@ -77,6 +286,28 @@ public class ToStringBuilder implements Builder<String> {
         return new ToStringBuilder(styleStrategy);
     }
 
+    /**
+     * Constructs for using the symbols and the limits of the given style.
+     * <p>A style with the symbols of JSON, such as {@link ToStringStyle#JSON}
+     * with other limits, is written by a {@link JsonToStringStyle}, which
+     * escapes the text and writes no class name. Any other style is written
+     * by a {@link DefaultToStringStyle} prefixed by the simple name of the
+     * class.
+     * <p>The style is immutable and validated once when it is built, so it
+     * can be kept in a constant and shared by all threads, while each call
+     * only creates the buffer of its own {@code toString}.
+     *
+     * @param style the configuration of the {@code toString} to create
+     * @return {@code this} instance
+     */
+    public static <T> ToStringBuilder costumeStyle(Class<T> aClass, ToStringStyle style) {
+        Asserts.notNull(style, "The style can not be null");
+        if (style.isJson()) {
+            return new ToStringBuilder(JsonToStringStyle.of(style));
+        }
+        return new ToStringBuilder(DefaultToStringStyle.of(aClass, style));
+    }
+
     /**
      * Appends the field name to {@code toString} along with a {@code boolean}
      * value.
@@ -86,7 +317,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, boolean value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -99,7 +330,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, boolean[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -112,7 +343,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, byte value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -125,7 +356,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, byte[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -138,7 +369,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, char value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -151,7 +382,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, char[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -164,7 +395,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, short value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -177,7 +408,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, short[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -190,7 +421,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, int value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -203,7 +434,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, int[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -216,7 +447,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, long value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -229,7 +460,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, long[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -242,7 +473,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, float value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -255,7 +486,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, float[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -268,7 +499,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, double value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -281,7 +512,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, double[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -294,7 +525,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, String value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -307,7 +538,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, String[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -320,7 +551,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, Date value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -333,7 +564,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, Date[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -347,7 +578,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, TemporalAccessor value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -361,7 +592,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, TemporalAccessor[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
         return this;
     }
 
@@ -374,7 +605,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public <T> ToStringBuilder append(String fieldName, Collection<T> value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -387,7 +618,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public ToStringBuilder append(String fieldName, Enum<?> value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -400,7 +631,7 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public <T> ToStringBuilder append(String fieldName, T value) {
-        styleStrategy.append(fieldName, value);
+        strategy().append(fieldName, value);
         return this;
     }
 
@@ -413,7 +644,64 @@ public class ToStringBuilder implements Builder<String> {
      * @return {@code this} instance
      */
     public <T> ToStringBuilder append(String fieldName, T[] values) {
-        styleStrategy.append(fieldName, values);
+        strategy().append(fieldName, values);
+        return this;
+    }
+
+    /**
+     * Appends all the instance fields of the given object, except static and
+     * transient ones, with the overload matching the declared type of each
+     * field.
+     * <p>The fields are discovered once per class and read through cached
+     * {@code MethodHandle}s, so primitive fields are not boxed.
+     * <p>An object of a class whose fields the module system does not allow
+     * to read, such as {@link Integer} or {@link java.time.LocalDate}, is
+     * appended by its own {@code toString}, without a field name, which the
+     * styles requiring field names reject.
+     *
+     * @param object the object whose fields are added to the {@code toString}
+     * @return {@code this} instance
+     */
+    public ToStringBuilder appendFields(Object object) {
+        Asserts.notNull(object, "The object can not be null");
+
+        ToStringStyleStrategy styleStrategy = strategy();
+        ClassFields classFields = ClassFields.of(object.getClass());
+        if (!classFields.isAccessible()) {
+            styleStrategy.append(null, object);
+            return this;
+        }
+        for (FieldAccessor field : classFields.fields()) {
+            String name = field.getName();
+            switch (field.getKind()) {
+                case BOOLEAN -> styleStrategy.append(name, field.getBoolean(object));
+                case BYTE -> styleStrategy.append(name, field.getByte(object));
+                case CHAR -> styleStrategy.append(name, field.getChar(object));
+                case SHORT -> styleStrategy.append(name, field.getShort(object));
+                case INT -> styleStrategy.append(name, field.getInt(object));
+                case LONG -> styleStrategy.append(name, field.getLong(object));
+                case FLOAT -> styleStrategy.append(name, field.getFloat(object));
+                case DOUBLE -> styleStrategy.append(name, field.getDouble(object));
+                case BOOLEAN_ARRAY -> styleStrategy.append(name, (boolean[]) field.get(object));
+                case BYTE_ARRAY -> styleStrategy.append(name, (byte[]) field.get(object));
+                case CHAR_ARRAY -> styleStrategy.append(name, (char[]) field.get(object));
+                case SHORT_ARRAY -> styleStrategy.append(name, (short[]) field.get(object));
+                case INT_ARRAY -> styleStrategy.append(name, (int[]) field.get(object));
+                case LONG_ARRAY -> styleStrategy.append(name, (long[]) field.get(object));
+                case FLOAT_ARRAY -> styleStrategy.append(name, (float[]) field.get(object));
+                case DOUBLE_ARRAY -> styleStrategy.append(name, (double[]) field.get(object));
+                case STRING -> styleStrategy.append(name, (String) field.get(object));
+                case STRING_ARRAY -> styleStrategy.append(name, (String[]) field.get(object));
+                case DATE -> styleStrategy.append(name, (Date) field.get(object));
+                case DATE_ARRAY -> styleStrategy.append(name, (Date[]) field.get(object));
+                case TEMPORAL -> styleStrategy.append(name, (TemporalAccessor) field.get(object));
+                case TEMPORAL_ARRAY -> styleStrategy.append(name, (TemporalAccessor[]) field.get(object));
+                case COLLECTION -> styleStrategy.append(name, (Collection<?>) field.get(object));
+                case ENUM -> styleStrategy.append(name, (Enum<?>) field.get(object));
+                case OBJECT_ARRAY -> styleStrategy.append(name, (Object[]) field.get(object));
+                default -> strategy().append(name, field.get(object));
+            }
+        }
         return this;
     }
 
@@ -426,7 +714,7 @@ public class ToStringBuilder implements Builder<String> {
      */
     public ToStringBuilder appendToString(String toString) {
         if (StringUtils.hasText(toString)) {
-            styleStrategy.append(toString);
+            strategy().append(toString);
         }
         return this;
     }
@@ -442,6 +730,21 @@ public class ToStringBuilder implements Builder<String> {
         return this;
     }
 
+    /**
+     * Completes the {@code toString} of a streaming builder and writes the
+     * remaining output to its target.
+     *
+     * @throws UnsupportedOperationException if the style does not support
+     *                                       streaming
+     * @throws IllegalStateException         if the style supports streaming
+     *                                       but no target has been set, such
+     *                                       as for {@link #jsonStyle()}
+     * @throws java.io.UncheckedIOException  if writing to the target fails
+     */
+    public void flush() {
+        strategy().flush();
+    }
+
     /**
      * Returns the String that was build as an object representation.
      *
@@ -452,8 +755,40 @@ public class ToStringBuilder implements Builder<String> {
         return toString();
     }
 
+    /**
+     * Returns the String that was build as an object representation.
+     * <p>A streaming builder, such as {@link #jsonStyle(Appendable)}, is
+     * completed by {@link #flush()} instead: its output is written to the
+     * target and this method returns an empty string.
+     *
+     * @return the String {@code toString}, or an empty string if the output
+     * was streamed to a target
+     */
     @Override
     public String toString() {
-        return styleStrategy.toString();
+        String toString = strategy().toString();
+        if (Objects.nonNull(pool)) {
+            pool.release((AbstractToStringStyleStrategy) styleStrategy);
+            pool = null;
+            styleStrategy = null;
+        }
+        if (Objects.nonNull(sizeProfile)) {
+            sizeProfile.record(toString.length());
+        }
+        return toString;
+    }
+
+    /**
+     * Returns the style strategy of this builder.
+     *
+     * @return the style strategy
+     * @throws IllegalStateException if the strategy was pooled and has been
+     *                               returned to its pool by {@link #toString()}
+     */
+    private ToStringStyleStrategy strategy() {
+        if (Objects.isNull(styleStrategy)) {
+            throw new IllegalStateException("The pooled builder has been built and can not be used anymore");
+        }
+        return styleStrategy;
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.builder.strategy.AbstractToStringStyleStrategy;
+
+/**
+ * Learns the length of the {@code toString} produced for a class, so that
+ * {@link ToStringBuilder#defaultStyle(Class)} can pre-size its buffer.
+ * <p>The lengths are kept in a histogram of power-of-two buckets whose
+ * counts are halved periodically, so the suggested capacity follows a moving
+ * 90th percentile of the recent lengths. The capacity is only recomputed when
+ * the counts are halved, so recording a length is a couple of plain
+ * increments. Updates are not synchronized; a lost update only makes the
+ * estimate slightly less accurate.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ToStringSizeProfile {
+
+    private static final ClassValue<ToStringSizeProfile> PROFILES = new ClassValue<>() {
+        @Override
+        protected ToStringSizeProfile computeValue(Class<?> type) {
+            return new ToStringSizeProfile(type);
+        }
+    };
+
+    private static final int BUCKETS = Integer.SIZE;
+
+    /**
+     * Number of samples after which the capacity is recomputed and the
+     * histogram counts are halved.
+     */
+    private static final int DECAY_INTERVAL = 256;
+
+    /**
+     * Percentile of the recorded lengths used as the suggested capacity.
+     */
+    private static final double PERCENTILE = 0.9;
+
+    private final Class<?> type;
+
+    /**
+     * Number of lengths per bucket, where bucket {@code n} holds lengths in
+     * {@code [2^(n-1), 2^n)}.
+     */
+    private final int[] counts;
+
+    /**
+     * Largest length seen per bucket.
+     */
+    private final int[] maxLengths;
+
+    private int samplesSinceDecay;
+
+    private volatile int capacity;
+
+    private ToStringSizeProfile(Class<?> type) {
+        this.type = type;
+        this.counts = new int[BUCKETS];
+        this.maxLengths = new int[BUCKETS];
+        this.capacity = AbstractToStringStyleStrategy.DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Returns the size profile of the given class.
+     *
+     * @param aClass the class whose {@code toString} lengths are profiled
+     * @return the size profile of the class
+     */
+    public static ToStringSizeProfile of(Class<?> aClass) {
+        Asserts.notNull(aClass, "The aClass can not be null");
+        return PROFILES.get(aClass);
+    }
+
+    /**
+     * Records the length of a {@code toString} produced for the class.
+     *
+     * @param length the length of the {@code toString}
+     */
+    public void record(int length) {
+        int bucket = BUCKETS - Integer.numberOfLeadingZeros(Math.max(length, 1));
+        counts[bucket]++;
+        if (length > maxLengths[bucket]) {
+            maxLengths[bucket] = length;
+        }
+        if (++samplesSinceDecay >= DECAY_INTERVAL) {
+            decay();
+        }
+    }
+
+    /**
+     * Recomputes the capacity from the counts, then halves them so that
+     * older lengths weigh less than recent ones.
+     */
+    private void decay() {
+        samplesSinceDecay = 0;
+        capacity = percentile();
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] >>= 1;
+            if (counts[i] == 0) {
+                maxLengths[i] = 0;
+            }
+        }
+    }
+
+    private int percentile() {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long threshold = (long) Math.ceil(total * PERCENTILE);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold && counts[i] > 0) {
+                return Math.max(maxLengths[i], 1);
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the profiled class.
+     *
+     * @return the profiled class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the learned buffer capacity for the {@code toString} of the
+     * class, which is {@link AbstractToStringStyleStrategy#DEFAULT_CAPACITY}
+     * until the first 256 lengths have been recorded.
+     *
+     * @return the suggested initial capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
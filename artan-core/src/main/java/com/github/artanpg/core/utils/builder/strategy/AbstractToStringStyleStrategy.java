@@ -15,15 +15,23 @@
  */
 package com.github.artanpg.core.utils.builder.strategy;
 
-import com.github.artanpg.core.utils.ArrayUtils;
 import com.github.artanpg.core.utils.Asserts;
 import com.github.artanpg.core.utils.CollectionUtils;
 import com.github.artanpg.core.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Abstract implementation strategy of the {@link Object#toString()}.
@@ -33,9 +41,32 @@ import java.util.Objects;
 public abstract class AbstractToStringStyleStrategy implements ToStringStyleStrategy {
 
     /**
-     * To specify the use of field names in {@code toString}.
+     * Default initial capacity of the {@code toString} buffer.
      */
-    private boolean useFieldNames = true;
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    /**
+     * Number of buffered characters after which the buffer is written to the
+     * target of a streaming strategy.
+     */
+    private static final int FLUSH_THRESHOLD = 8192;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final char[] BASE64_DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    /**
+     * The immutable configuration of the output, shared with the other
+     * strategies of the same style.
+     */
+    private ToStringStyle style;
+
+    /**
+     * The style this strategy was constructed with, restored by
+     * {@link #reset(int)}.
+     */
+    private final ToStringStyle initialStyle;
 
     /**
      * Title of the class.
@@ -43,44 +74,106 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     private String className;
 
     /**
-     * String starter symbol.
+     * The class name this strategy was constructed with, restored by
+     * {@link #reset(int)}.
+     */
+    private final String initialClassName;
+
+    private StringBuilder builder;
+
+    /**
+     * Whether a field separator is owed before the next appended content.
      */
-    private String stringStarter = "(";
+    private boolean separatorPending;
 
     /**
-     * String terminator symbol.
+     * Where the output is streamed to, or {@code null} if the
+     * {@code toString} is only built in memory.
      */
-    private String stringTerminator = ")";
+    private Appendable target;
 
     /**
-     * String starter symbol for field names and values.
+     * Reusable chunk for copying the buffer to a {@link Writer} target.
      */
-    private String contentStarter = "'";
+    private char[] chunk;
 
     /**
-     * String terminator symbol for field names and values.
+     * Number of characters of the current {@code toString} already written
+     * to the target.
      */
-    private String contentTerminator = "'";
+    private int written;
 
     /**
-     * String separator symbol for field names and values.
+     * The graph the current {@code toString} belongs to, or {@code null} if
+     * the output is not bounded.
      */
-    private String contentSeparator = "=";
+    private GraphContext graph;
 
     /**
-     * Array starter symbol for values.
+     * Number of characters the current {@code toString} may have.
      */
-    private String arrayStarter = "{";
+    private int maxLength = Integer.MAX_VALUE;
 
     /**
-     * Array terminator symbol for values.
+     * Whether the output has been cut at {@link #maxLength}.
      */
-    private String arrayTerminator = "}";
+    private boolean truncated;
 
-    private final StringBuilder builder;
+    /**
+     * The object whose {@code toString} is built, placed at the root of the
+     * graph this strategy starts, or {@code null} if it is not known.
+     */
+    private Object root;
+
+    /**
+     * The object arrays and collections whose elements are being appended,
+     * from the outermost, or {@code null} until one of them is appended.
+     */
+    private List<Object> openContainers;
 
     protected AbstractToStringStyleStrategy() {
-        this.builder = new StringBuilder(2048);
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a strategy whose buffer is pre-sized to the expected length
+     * of the {@code toString}.
+     *
+     * @param initialCapacity the initial capacity of the buffer
+     */
+    protected AbstractToStringStyleStrategy(int initialCapacity) {
+        this(ToStringStyle.DEFAULT, initialCapacity);
+    }
+
+    /**
+     * Constructs a strategy which writes the output configured by the given
+     * style, already validated, into a buffer pre-sized to the expected
+     * length of the {@code toString}.
+     *
+     * @param style           the configuration of the output
+     * @param initialCapacity the initial capacity of the buffer
+     */
+    protected AbstractToStringStyleStrategy(ToStringStyle style, int initialCapacity) {
+        this(null, style, initialCapacity);
+    }
+
+    /**
+     * Constructs a strategy of the given class name which writes the output
+     * configured by the given style, already validated, into a buffer
+     * pre-sized to the expected length of the {@code toString}.
+     *
+     * @param className       the class name, or {@code null} for none
+     * @param style           the configuration of the output
+     * @param initialCapacity the initial capacity of the buffer
+     */
+    protected AbstractToStringStyleStrategy(String className, ToStringStyle style, int initialCapacity) {
+        Asserts.notNull(style, "The style can not be null");
+        Asserts.isTrue(initialCapacity > 0, "The initial capacity must be positive");
+        this.className = className;
+        this.initialClassName = className;
+        this.style = style;
+        this.initialStyle = style;
+        this.builder = new StringBuilder(initialCapacity);
     }
 
     /**
@@ -96,44 +189,95 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * Appends string starter to the {@code toString}.
      */
     protected void appendStringStarter() {
-        Asserts.hasText(stringStarter, "The string starter can not be null or empty");
-        builder.append(stringStarter);
+        builder.append(style.getStringStarter());
     }
 
     /**
      * Appends string terminator to the {@code toString}.
      */
     protected void appendStringTerminator() {
-        Asserts.hasText(stringTerminator, "The string terminator can not be null or empty");
-        builder.append(stringTerminator);
+        builder.append(style.getStringTerminator());
     }
 
     /**
      * Appends an indicator for {@code null} to the {@code toString}.
      */
     protected void appendNullText() {
+        appendFieldSeparator();
         builder.append(StringUtils.NULL);
+        requireFieldSeparator();
     }
 
     /**
      * If the field name are not {@code null} and {@code useFieldNames = true},
      * it adds to {@code toString}.
+     * <p>The prefix of the field, made of the content starter, the field
+     * name, the content terminator and the content separator, is built once
+     * per style and appended with a single copy. Field names with characters
+     * to escape, and all the field names of a strategy whose
+     * {@link #usesFieldNamePrefixes()} returns {@code false}, are appended
+     * through {@link #appendText(String)}.
      *
      * @param fieldName the field name to add to the toString
      */
     protected void appendFieldNames(String fieldName) {
-        if (useFieldNames && Objects.nonNull(fieldName)) {
-            builder.append(contentStarter).append(fieldName).append(contentTerminator).append(contentSeparator);
+        if (style.isUseFieldNames() && Objects.nonNull(fieldName)) {
+            appendFieldSeparator();
+            char[] prefix = usesFieldNamePrefixes() ? style.prefixes().chars(fieldName) : null;
+            if (Objects.nonNull(prefix)) {
+                builder.append(prefix);
+                return;
+            }
+            builder.append(style.getContentStarter());
+            appendText(fieldName);
+            builder.append(style.getContentTerminator()).append(style.getContentSeparator());
         }
     }
 
+    /**
+     * Returns whether the field names may be appended from the prefixes
+     * cached by the style, which hold the raw field names. Styles whose
+     * {@link #appendText(String)} escapes the field names otherwise must
+     * override this method to return {@code false}.
+     *
+     * @return true, if the cached field-name prefixes are appended
+     */
+    protected boolean usesFieldNamePrefixes() {
+        return true;
+    }
+
+    /**
+     * Appends the text of a field name or a {@code String} value, between
+     * the content starter and terminator, to the {@code toString}. Styles
+     * that need escaping override this method, and
+     * {@link #usesFieldNamePrefixes()} too.
+     *
+     * @param text the text to add to the {@code toString}
+     */
+    protected void appendText(String text) {
+        builder.append(text);
+    }
+
+    /**
+     * Appends a {@code char} value, between the content starter and
+     * terminator, to the {@code toString}. Styles that need escaping override
+     * this method.
+     *
+     * @param text the character to add to the {@code toString}
+     */
+    protected void appendText(char text) {
+        builder.append(text);
+    }
+
     /**
      * Appends to the {@code toString} a {@code boolean} value.
      *
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(boolean value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -142,14 +286,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the value array to add to the {@code toString}
      */
     protected void appendValues(boolean[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (boolean value : values) {
-                appendValues(value);
+        if (startElements(values, "boolean")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -158,7 +306,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(byte value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -167,14 +317,24 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(byte[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (byte value : values) {
-                appendValues(value);
+        ArraySummary arraySummary = style.getArraySummary();
+        if (Objects.nonNull(values) && Objects.nonNull(arraySummary)
+                && arraySummary.getBytesFormat() != ArraySummary.BytesFormat.ELEMENTS && !arraySummary.isLengthOnly()) {
+            appendEncoded(values);
+            return;
+        }
+        if (startElements(values, "byte")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -183,7 +343,11 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(char value) {
-        builder.append("'").append(value).append("'").append(',');
+        appendFieldSeparator();
+        builder.append(style.getContentStarter());
+        appendText(value);
+        builder.append(style.getContentTerminator());
+        requireFieldSeparator();
     }
 
     /**
@@ -192,14 +356,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(char[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (char value : values) {
-                appendValues(value);
+        if (startElements(values, "char")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -208,7 +376,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(short value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -217,14 +387,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(short[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (short value : values) {
-                appendValues(value);
+        if (startElements(values, "short")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -233,7 +407,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(int value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -242,14 +418,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(int[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (int value : values) {
-                appendValues(value);
+        if (startElements(values, "int")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
+            }
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -258,7 +438,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(long value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -267,23 +449,31 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(long[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (long value : values) {
-                appendValues(value);
+        if (startElements(values, "long")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
+            }
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
-     * Appends to the {@code toString} a {@code float} value.
+     * Appends to the {@code toString} a {@code float} value, as
+     * {@link Float#toString(float)} formats it. Before JDK 19 this is not
+     * always the shortest representation which reads back as the same value.
      *
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(float value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -292,23 +482,31 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(float[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (float value : values) {
-                appendValues(value);
+        if (startElements(values, "float")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
-     * Appends to the {@code toString} a {@code double} value.
+     * Appends to the {@code toString} a {@code double} value, as
+     * {@link Double#toString(double)} formats it. Before JDK 19 this is not
+     * always the shortest representation which reads back as the same value.
      *
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(double value) {
-        builder.append(value).append(',');
+        appendFieldSeparator();
+        builder.append(value);
+        requireFieldSeparator();
     }
 
     /**
@@ -317,14 +515,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the values to add to the {@code toString}
      */
     protected void appendValues(double[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (double value : values) {
-                appendValues(value);
+        if (startElements(values, "double")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -335,9 +537,12 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     protected void appendValues(String value) {
         if (Objects.isNull(value)) {
             appendNullText();
-            builder.append(',');
         } else {
-            builder.append(contentStarter).append(value).append(contentTerminator).append(',');
+            appendFieldSeparator();
+            builder.append(style.getContentStarter());
+            appendText(value);
+            builder.append(style.getContentTerminator());
+            requireFieldSeparator();
         }
     }
 
@@ -347,27 +552,37 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the value array to add to the {@code toString}
      */
     protected void appendValues(String[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (String value : values) {
-                appendValues(value);
+        if (startElements(values, "String")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
-     * Appends to the {@code toString} a {@code Date} value.
+     * Appends to the {@code toString} a {@code Date} value, of any subclass,
+     * as an ISO-8601 instant in UTC such as {@code 1970-01-01T00:00:00Z}.
      *
      * @param value the value to add to the {@code toString}
      */
     protected void appendValues(Date value) {
         if (Objects.isNull(value)) {
             appendNullText();
-            builder.append(',');
         } else {
-            appendValues(value.toString());
+            appendFieldSeparator();
+            builder.append(style.getContentStarter());
+            if (!TemporalFormats.format(value, builder)) {
+                appendText(value.toString());
+            }
+            builder.append(style.getContentTerminator());
+            requireFieldSeparator();
         }
     }
 
@@ -377,14 +592,18 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the value array to add to the {@code toString}
      */
     protected void appendValues(Date[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (Date value : values) {
-                appendValues(value.toString());
+        if (startElements(values, "Date")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
@@ -395,9 +614,14 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     protected void appendValues(TemporalAccessor value) {
         if (Objects.isNull(value)) {
             appendNullText();
-            builder.append(',');
         } else {
-            appendValues(value.toString());
+            appendFieldSeparator();
+            builder.append(style.getContentStarter());
+            if (!TemporalFormats.format(value, builder)) {
+                appendText(value.toString());
+            }
+            builder.append(style.getContentTerminator());
+            requireFieldSeparator();
         }
     }
 
@@ -407,30 +631,65 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param values the value array to add to the {@code toString}
      */
     protected void appendValues(TemporalAccessor[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (TemporalAccessor value : values) {
-                appendValues(value.toString());
+        if (startElements(values, "TemporalAccessor")) {
+            int head = headCount(values.length);
+            int tail = tailCount(values.length, head);
+            for (int i = 0; i < head; i++) {
+                appendValues(values[i]);
+            }
+            appendElided(values.length - head - tail);
+            for (int i = values.length - tail; i < values.length; i++) {
+                appendValues(values[i]);
             }
-            removeLastContentSeparator();
+            appendArrayTerminator();
         }
-        builder.append(arrayTerminator).append(',');
     }
 
     /**
      * Appends to the {@code toString} a {@code Collection<?>} values.
+     * <p>Nested arrays and collections are appended by their elements, and a
+     * collection which contains itself by its class name and identity hash
+     * code where it recurs.
+     * <p>When the collection is summarized, the tail is read by index from a
+     * {@link List} supporting fast random access and backwards from a
+     * {@link Deque}. The other collections are only iterated up to the head,
+     * and the elements after it are elided rather than reached by iterating
+     * the whole collection.
      *
      * @param values the value collection to add to the {@code toString}
      */
     protected void appendValues(Collection<?> values) {
-        builder.append(arrayStarter);
+        if (isLengthOnly(values)) {
+            appendLength(values.getClass().getSimpleName(), values.size());
+            return;
+        }
+        if (isOpen(values)) {
+            appendRecurring(values);
+            return;
+        }
+        appendArrayStarter();
         if (CollectionUtils.isNotEmpty(values)) {
-            for (Object value : values) {
-                appendValues(value);
+            open(values);
+            try {
+                if (values instanceof List<?> list && values instanceof RandomAccess) {
+                    int size = list.size();
+                    int head = headCount(size);
+                    int tail = tailCount(size, head);
+                    for (int i = 0; i < head; i++) {
+                        appendValues(list.get(i));
+                    }
+                    appendElided(size - head - tail);
+                    for (int i = size - tail; i < size; i++) {
+                        appendValues(list.get(i));
+                    }
+                } else {
+                    appendIterated(values);
+                }
+            } finally {
+                close();
             }
-            removeLastContentSeparator();
         }
-        builder.append(arrayTerminator).append(',');
+        appendArrayTerminator();
     }
 
     /**
@@ -441,7 +700,6 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     protected void appendValues(Enum<?> value) {
         if (Objects.isNull(value)) {
             appendNullText();
-            builder.append(',');
         } else {
             appendValues(value.toString());
         }
@@ -455,41 +713,443 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     protected <T> void appendValues(T value) {
         if (Objects.isNull(value)) {
             appendNullText();
-            builder.append(',');
         } else if (value instanceof String string) {
             appendValues(string);
+        } else if (value.getClass().isArray()) {
+            appendNestedArray(value);
+        } else if (value instanceof Collection<?> values) {
+            appendValues(values);
+        } else {
+            appendFieldSeparator();
+            if (Objects.isNull(graph)) {
+                builder.append(value);
+            } else {
+                appendNested(value);
+            }
+            requireFieldSeparator();
+        }
+    }
+
+    /**
+     * Appends a nested object within the limits of the graph: by its
+     * {@code toString()} cut to the remaining length, or by its class name
+     * and identity hash code if it is too deep or already being rendered.
+     *
+     * @param value the nested object to add to the {@code toString}
+     */
+    private void appendNested(Object value) {
+        if (truncated) {
+            return;
+        }
+        if (!graph.canDescend(value)) {
+            appendIdentity(value);
+            return;
+        }
+        int length = outputLength();
+        GraphContext previous = graph.enter(value, length);
+        String toString;
+        try {
+            toString = String.valueOf(value);
+        } finally {
+            graph.exit(previous, length);
+        }
+        int room = maxLength - length;
+        if (toString.length() > room) {
+            builder.append(toString, 0, Math.max(0, room));
+            truncated = true;
         } else {
-            builder.append(value).append(',');
+            builder.append(toString);
+        }
+    }
+
+    /**
+     * Appends an object by its class name and identity hash code, in place
+     * of a {@code toString} which would not end.
+     *
+     * @param value the object to add to the {@code toString}
+     */
+    private void appendIdentity(Object value) {
+        builder.append(style.getContentStarter());
+        appendText(value.getClass().getSimpleName());
+        builder.append('@').append(Integer.toHexString(System.identityHashCode(value)));
+        builder.append(style.getContentTerminator());
+    }
+
+    /**
+     * Appends an array nested in an array or a collection by its elements,
+     * as the overload of its component type does, instead of by its
+     * identity {@code toString()}.
+     *
+     * @param array the nested array to add to the {@code toString}
+     */
+    private void appendNestedArray(Object array) {
+        if (array instanceof String[] values) {
+            appendValues(values);
+        } else if (array instanceof Date[] values) {
+            appendValues(values);
+        } else if (array instanceof TemporalAccessor[] values) {
+            appendValues(values);
+        } else if (array instanceof Object[] values) {
+            appendValues(values);
+        } else if (array instanceof int[] values) {
+            appendValues(values);
+        } else if (array instanceof long[] values) {
+            appendValues(values);
+        } else if (array instanceof double[] values) {
+            appendValues(values);
+        } else if (array instanceof byte[] values) {
+            appendValues(values);
+        } else if (array instanceof char[] values) {
+            appendValues(values);
+        } else if (array instanceof boolean[] values) {
+            appendValues(values);
+        } else if (array instanceof float[] values) {
+            appendValues(values);
+        } else {
+            appendValues((short[]) array);
         }
     }
 
     /**
      * Appends to the {@code toString} a {@code Object[]} values.
+     * <p>Nested arrays and collections are appended by their elements. An
+     * array which contains itself, directly or through other arrays and
+     * collections, is appended by its class name and identity hash code where
+     * it recurs.
      *
      * @param values the value array to add to the {@code toString}
      */
     protected <T> void appendValues(T[] values) {
-        builder.append(arrayStarter);
-        if (ArrayUtils.isNotEmpty(values)) {
-            for (Object value : values) {
+        if (isOpen(values)) {
+            appendRecurring(values);
+            return;
+        }
+        open(values);
+        try {
+            if (startElements(values, null)) {
+                int head = headCount(values.length);
+                int tail = tailCount(values.length, head);
+                for (int i = 0; i < head; i++) {
+                    appendValues((Object) values[i]);
+                }
+                appendElided(values.length - head - tail);
+                for (int i = values.length - tail; i < values.length; i++) {
+                    appendValues((Object) values[i]);
+                }
+                appendArrayTerminator();
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Returns whether the elements of the array or the collection are already
+     * being appended, compared by identity.
+     */
+    private boolean isOpen(Object values) {
+        if (Objects.nonNull(openContainers)) {
+            for (Object open : openContainers) {
+                if (open == values) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the array or the collection whose elements are appended next.
+     */
+    private void open(Object values) {
+        if (Objects.isNull(openContainers)) {
+            openContainers = new ArrayList<>(4);
+        }
+        openContainers.add(values);
+    }
+
+    /**
+     * Unmarks the array or the collection marked last by {@link #open}.
+     */
+    private void close() {
+        openContainers.remove(openContainers.size() - 1);
+    }
+
+    /**
+     * Appends an array or a collection which contains itself where it
+     * recurs, by its class name and identity hash code.
+     */
+    private void appendRecurring(Object values) {
+        appendFieldSeparator();
+        appendIdentity(values);
+        requireFieldSeparator();
+    }
+
+    /**
+     * Starts an array: appends its type and length if the array summary says
+     * so, otherwise its starter, and its terminator too if it is
+     * {@code null}. The elements are appended by the caller in a plain loop,
+     * all of them or the head and the tail allowed by the array summary and
+     * the limits of the graph, with the count of the others in between.
+     *
+     * @param values   the array, or {@code null}
+     * @param typeName the name of the element type, for the length, or
+     *                 {@code null} for the name of the component type of the
+     *                 array
+     * @return whether the elements and the terminator are to be appended
+     */
+    private boolean startElements(Object values, String typeName) {
+        if (isLengthOnly(values)) {
+            appendLength(Objects.isNull(typeName) ? values.getClass().getComponentType().getSimpleName() : typeName,
+                    Array.getLength(values));
+            return false;
+        }
+        appendArrayStarter();
+        if (Objects.isNull(values)) {
+            appendArrayTerminator();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends the elements of a collection which is not indexed: the head
+     * by its iterator, and the tail by the descending iterator of a
+     * {@link Deque}. The tail of other collections is elided.
+     *
+     * @param values the collection, not empty
+     */
+    private void appendIterated(Collection<?> values) {
+        int size = values.size();
+        int head = headCount(size);
+        int tail = values instanceof Deque ? tailCount(size, head) : 0;
+        Iterator<?> iterator = values.iterator();
+        for (int i = 0; i < head && iterator.hasNext(); i++) {
+            appendValues(iterator.next());
+        }
+        appendElided(size - head - tail);
+        if (tail > 0) {
+            Object[] last = new Object[tail];
+            Iterator<?> descending = ((Deque<?>) values).descendingIterator();
+            for (int i = tail - 1; i >= 0 && descending.hasNext(); i--) {
+                last[i] = descending.next();
+            }
+            for (Object value : last) {
                 appendValues(value);
             }
-            removeLastContentSeparator();
         }
-        builder.append(arrayTerminator).append(',');
+    }
+
+    /**
+     * Returns how many elements of an array or a collection may be rendered,
+     * by the array summary and the limits of the graph.
+     */
+    private int maxElements() {
+        int maxElements = Integer.MAX_VALUE;
+        ArraySummary arraySummary = style.getArraySummary();
+        if (Objects.nonNull(arraySummary)) {
+            maxElements = arraySummary.getHeadElements() + arraySummary.getTailElements();
+        }
+        if (Objects.nonNull(graph)) {
+            maxElements = truncated ? 0 : Math.min(maxElements, graph.getLimits().getMaxElements());
+        }
+        return maxElements;
+    }
+
+    /**
+     * Returns how many elements from the start of an array or a collection
+     * are rendered.
+     *
+     * @param length the number of elements
+     * @return the number of leading elements to render
+     */
+    protected int headCount(int length) {
+        int maxElements = maxElements();
+        if (length <= maxElements) {
+            return length;
+        }
+        ArraySummary arraySummary = style.getArraySummary();
+        return Objects.isNull(arraySummary) ? maxElements : Math.min(arraySummary.getHeadElements(), maxElements);
+    }
+
+    /**
+     * Returns how many elements from the end of an array or a collection are
+     * rendered, after the given leading elements.
+     *
+     * @param length the number of elements
+     * @param head   the number of leading elements rendered
+     * @return the number of trailing elements to render
+     */
+    protected int tailCount(int length, int head) {
+        ArraySummary arraySummary = style.getArraySummary();
+        if (head == length || Objects.isNull(arraySummary)) {
+            return 0;
+        }
+        return Math.min(arraySummary.getTailElements(), maxElements() - head);
+    }
+
+    /**
+     * Appends {@code ...N more} in place of the elements of an array or a
+     * collection which were not rendered.
+     *
+     * @param elided the number of elements not rendered
+     */
+    protected void appendElided(int elided) {
+        if (elided > 0) {
+            appendFieldSeparator();
+            builder.append(style.getContentStarter()).append("...").append(elided).append(" more")
+                    .append(style.getContentTerminator());
+            requireFieldSeparator();
+        }
+    }
+
+    /**
+     * Returns whether the array or the collection is rendered by its length
+     * only.
+     *
+     * @param values the array or the collection to render
+     * @return true, if only its type and length are rendered
+     */
+    protected boolean isLengthOnly(Object values) {
+        ArraySummary arraySummary = style.getArraySummary();
+        return Objects.nonNull(values) && Objects.nonNull(arraySummary) && arraySummary.isLengthOnly();
+    }
+
+    /**
+     * Appends the type and the length of an array or a collection, such as
+     * {@code byte[1024]}, to the {@code toString}.
+     *
+     * @param type   the name of the element type or of the collection
+     * @param length the number of elements
+     */
+    protected void appendLength(String type, int length) {
+        appendFieldSeparator();
+        builder.append(style.getContentStarter());
+        appendText(type);
+        builder.append('[').append(length).append(']').append(style.getContentTerminator());
+        requireFieldSeparator();
+    }
+
+    /**
+     * Appends a {@code byte[]} as a single hexadecimal or base64 text, of at
+     * most as many bytes as the summary renders, followed by
+     * {@code ...N more} for the bytes left out.
+     *
+     * @param values the bytes to add to the {@code toString}
+     */
+    private void appendEncoded(byte[] values) {
+        int count = Math.min(values.length, maxElements());
+        appendFieldSeparator();
+        builder.append(style.getContentStarter());
+        if (style.getArraySummary().getBytesFormat() == ArraySummary.BytesFormat.HEX) {
+            for (int i = 0; i < count; i++) {
+                builder.append(HEX_DIGITS[(values[i] >> 4) & 0xF]).append(HEX_DIGITS[values[i] & 0xF]);
+            }
+        } else {
+            appendBase64(values, count);
+        }
+        if (count < values.length) {
+            builder.append("...").append(values.length - count).append(" more");
+        }
+        builder.append(style.getContentTerminator());
+        requireFieldSeparator();
+    }
+
+    /**
+     * Appends the first bytes of the array in base64, as defined by RFC 4648,
+     * with padding.
+     */
+    private void appendBase64(byte[] values, int count) {
+        int i = 0;
+        for (; i + 2 < count; i += 3) {
+            int bits = (values[i] & 0xFF) << 16 | (values[i + 1] & 0xFF) << 8 | (values[i + 2] & 0xFF);
+            builder.append(BASE64_DIGITS[bits >>> 18]).append(BASE64_DIGITS[(bits >>> 12) & 0x3F])
+                    .append(BASE64_DIGITS[(bits >>> 6) & 0x3F]).append(BASE64_DIGITS[bits & 0x3F]);
+        }
+        if (i < count) {
+            int bits = (values[i] & 0xFF) << 16 | (i + 1 < count ? (values[i + 1] & 0xFF) << 8 : 0);
+            builder.append(BASE64_DIGITS[bits >>> 18]).append(BASE64_DIGITS[(bits >>> 12) & 0x3F])
+                    .append(i + 1 < count ? BASE64_DIGITS[(bits >>> 6) & 0x3F] : '=').append('=');
+        }
+    }
+
+    /**
+     * Appends array starter to the {@code toString}.
+     */
+    protected void appendArrayStarter() {
+        appendFieldSeparator();
+        builder.append(style.getArrayStarter());
+    }
+
+    /**
+     * Appends array terminator to the {@code toString}.
+     */
+    protected void appendArrayTerminator() {
+        removeLastContentSeparator();
+        builder.append(style.getArrayTerminator());
+        requireFieldSeparator();
+    }
+
+    /**
+     * Appends the pending field separator to the {@code toString}, if the
+     * previous field or element has requested one.
+     */
+    protected void appendFieldSeparator() {
+        if (Objects.nonNull(graph)) {
+            checkLength();
+        }
+        if (separatorPending) {
+            builder.append(',');
+            separatorPending = false;
+        }
+        if (Objects.nonNull(target) && !truncated && builder.length() >= FLUSH_THRESHOLD) {
+            writeBuffer();
+        }
+    }
+
+    /**
+     * Cuts the output at the max length. Once cut, whatever is appended
+     * afterwards is discarded at the next check.
+     */
+    private void checkLength() {
+        if (outputLength() > maxLength) {
+            builder.setLength(Math.max(0, maxLength - written));
+            truncated = true;
+        }
+    }
+
+    /**
+     * Returns the length of the output of the current {@code toString},
+     * including what was already written to the target.
+     */
+    private int outputLength() {
+        return written + builder.length();
+    }
+
+    /**
+     * Requests a field separator before the next field or element that is
+     * added to the {@code toString}.
+     * <p>The separator is written lazily, so closing an array or the whole
+     * {@code toString} never has to inspect or shrink the buffer.
+     */
+    protected void requireFieldSeparator() {
+        separatorPending = true;
     }
 
     /**
      * Remove the last field separator from the {@code toString}.
+     * <p>Discards the pending separator requested by the last field or
+     * element.
      */
     protected void removeLastContentSeparator() {
-        if (builder.toString().endsWith(",")) {
-            builder.setLength(builder.length() - 1);
-        }
+        separatorPending = false;
     }
 
     @Override
     public void appendStarter() {
+        separatorPending = false;
+        written = 0;
+        joinGraph();
         appendClassName();
         appendStringStarter();
     }
@@ -497,10 +1157,13 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     @Override
     public void append(String toString) {
         if (StringUtils.hasText(toString)) {
+            String stringStarter = style.getStringStarter();
             int pos1 = toString.indexOf(stringStarter) + stringStarter.length();
-            int pos2 = toString.lastIndexOf(stringTerminator);
+            int pos2 = toString.lastIndexOf(style.getStringTerminator());
             if (pos1 != pos2 && pos1 >= 0 && pos2 >= 0) {
+                appendFieldSeparator();
                 builder.append(toString, pos1, pos2);
+                requireFieldSeparator();
             }
         }
     }
@@ -508,24 +1171,226 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
     @Override
     public void appendTerminator() {
         removeLastContentSeparator();
+        if (Objects.nonNull(graph)) {
+            checkLength();
+            if (truncated) {
+                builder.append("...");
+            }
+        }
         appendStringTerminator();
     }
 
+    /**
+     * Joins the graph which is being rendered by the current thread, so that
+     * the limits of the enclosing strategy apply. Otherwise, starts a new
+     * graph if the limits of this strategy are set.
+     */
+    private void joinGraph() {
+        GraphContext current = GraphContext.current();
+        if (Objects.nonNull(current)) {
+            graph = current;
+        } else if (Objects.nonNull(style.getLimits())) {
+            graph = new GraphContext(style.getLimits(), root);
+        } else {
+            graph = null;
+        }
+        maxLength = Objects.isNull(graph) ? Integer.MAX_VALUE : graph.remaining();
+        truncated = false;
+    }
+
+    /**
+     * Writes the buffered output to the target and clears the buffer.
+     */
+    private void writeBuffer() {
+        try {
+            if (target instanceof Writer writer) {
+                if (Objects.isNull(chunk)) {
+                    chunk = new char[FLUSH_THRESHOLD];
+                }
+                int length = builder.length();
+                for (int start = 0; start < length; start += chunk.length) {
+                    int end = Math.min(length, start + chunk.length);
+                    builder.getChars(start, end, chunk, 0);
+                    writer.write(chunk, 0, end - start);
+                }
+            } else {
+                target.append(builder);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        written += builder.length();
+        builder.setLength(0);
+    }
+
+    @Override
+    public void flush() {
+        if (Objects.isNull(target)) {
+            throw new IllegalStateException("No target has been set to stream the toString to");
+        }
+        appendTerminator();
+        writeBuffer();
+        separatorPending = false;
+    }
+
+    /**
+     * Returns the {@code toString}, or for a streaming strategy writes it to
+     * the target by {@link #flush()} and returns an empty string.
+     *
+     * @return the built {@code toString}
+     */
     @Override
     public String toString() {
+        if (Objects.nonNull(target)) {
+            flush();
+            return StringUtils.EMPTY;
+        }
         appendTerminator();
         String toString = builder.toString();
         builder.setLength(0);
+        separatorPending = false;
         return toString;
     }
 
+    /**
+     * Returns this instance to the state it was constructed in, so that it
+     * can build another {@code toString}: the style and the class name given
+     * to the constructor are restored, the target is removed and the buffer
+     * is cleared. A buffer which has grown beyond the given capacity is
+     * replaced by a new one instead of being retained.
+     *
+     * @param maxRetainedCapacity the largest buffer capacity to keep
+     */
+    public void reset(int maxRetainedCapacity) {
+        Asserts.isTrue(maxRetainedCapacity > 0, "The max retained capacity must be positive");
+        style = initialStyle;
+        className = initialClassName;
+        target = null;
+        separatorPending = false;
+        written = 0;
+        graph = null;
+        maxLength = Integer.MAX_VALUE;
+        truncated = false;
+        root = null;
+        if (builder.capacity() > maxRetainedCapacity) {
+            builder = new StringBuilder(DEFAULT_CAPACITY);
+        } else {
+            builder.setLength(0);
+        }
+    }
+
+    /**
+     * Returns the target that the output is streamed to.
+     *
+     * @return the current target, or {@code null} if not streaming
+     */
+    public Appendable getTarget() {
+        return target;
+    }
+
+    /**
+     * Sets the target that the output is streamed to. Once set, the buffer
+     * is written to the target whenever it grows beyond a few kilobytes, so
+     * the memory used does not depend on the size of the object.
+     *
+     * @param target the target value
+     */
+    public void setTarget(Appendable target) {
+        this.target = target;
+    }
+
+    /**
+     * Returns the configuration of the output of {@code toString()}.
+     *
+     * @return the current style value
+     */
+    public ToStringStyle getStyle() {
+        return style;
+    }
+
+    /**
+     * Sets the configuration of the output of {@code toString()}. The style
+     * is immutable, so it can be shared by many strategies; the setters of
+     * the individual symbols replace the style of this strategy with a
+     * modified copy.
+     *
+     * @param style the style value
+     */
+    public void setStyle(ToStringStyle style) {
+        Asserts.notNull(style, "The style can not be null");
+        this.style = style;
+    }
+
+    /**
+     * Returns the limits of the graph-aware rendering mode.
+     *
+     * @return the current limits, or {@code null} if the output is not
+     * bounded
+     */
+    public ToStringLimits getLimits() {
+        return style.getLimits();
+    }
+
+    /**
+     * Sets the limits of the graph-aware rendering mode, which bound the
+     * depth of the nested objects, the elements rendered per array or
+     * collection and the length of the whole output, and break the cycles
+     * of the object graph. The nested objects whose {@code toString()} is
+     * built by a strategy share the same limits.
+     * <p>The limits take effect from the next {@code toString}.
+     *
+     * @param limits the limits value, or {@code null} to not bound the output
+     */
+    public void setLimits(ToStringLimits limits) {
+        if (!Objects.equals(style.getLimits(), limits)) {
+            style = style.toBuilder().limits(limits).build();
+        }
+    }
+
+    /**
+     * Sets the object whose {@code toString} this strategy builds, so that
+     * a nested reference back to it is rendered by its class name and
+     * identity hash code at once, instead of after the object is rendered
+     * once more. The root is only used when this strategy starts a new graph
+     * under its limits, not when it joins the graph of an enclosing strategy.
+     *
+     * @param root the object at the root of the graph, or {@code null} if it
+     *             is not known
+     */
+    public void setRoot(Object root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns how the arrays and the collections are summarized.
+     *
+     * @return the current array summary, or {@code null} if all the elements
+     * are rendered
+     */
+    public ArraySummary getArraySummary() {
+        return style.getArraySummary();
+    }
+
+    /**
+     * Sets how the arrays and the collections are summarized, so that the
+     * cost of rendering them is bounded by the summary instead of their size.
+     *
+     * @param arraySummary the array summary value, or {@code null} to render
+     *                     all the elements
+     */
+    public void setArraySummary(ArraySummary arraySummary) {
+        if (!Objects.equals(style.getArraySummary(), arraySummary)) {
+            style = style.toBuilder().arraySummary(arraySummary).build();
+        }
+    }
+
     /**
      * Gets whether to use the field names in {@code toString}.
      *
      * @return the current useFieldNames value
      */
     public boolean isUseFieldNames() {
-        return useFieldNames;
+        return style.isUseFieldNames();
     }
 
     /**
@@ -534,7 +1399,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param useFieldNames the new useFieldNames value
      */
     public void setUseFieldNames(boolean useFieldNames) {
-        this.useFieldNames = useFieldNames;
+        if (style.isUseFieldNames() != useFieldNames) {
+            style = style.toBuilder().useFieldNames(useFieldNames).build();
+        }
     }
 
     /**
@@ -563,7 +1430,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current string starter value
      */
     public String getStringStarter() {
-        return stringStarter;
+        return style.getStringStarter();
     }
 
     /**
@@ -572,7 +1439,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param stringStarter the string starter value
      */
     public void setStringStarter(String stringStarter) {
-        this.stringStarter = stringStarter;
+        if (!Objects.equals(style.getStringStarter(), stringStarter)) {
+            style = style.toBuilder().stringStarter(stringStarter).build();
+        }
     }
 
     /**
@@ -582,7 +1451,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current string terminator value
      */
     public String getStringTerminator() {
-        return stringTerminator;
+        return style.getStringTerminator();
     }
 
     /**
@@ -592,7 +1461,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param stringTerminator the string terminator value
      */
     public void setStringTerminator(String stringTerminator) {
-        this.stringTerminator = stringTerminator;
+        if (!Objects.equals(style.getStringTerminator(), stringTerminator)) {
+            style = style.toBuilder().stringTerminator(stringTerminator).build();
+        }
     }
 
     /**
@@ -602,7 +1473,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current content starter value
      */
     public String getContentStarter() {
-        return contentStarter;
+        return style.getContentStarter();
     }
 
     /**
@@ -612,7 +1483,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param contentStarter the content starter value
      */
     public void setContentStarter(String contentStarter) {
-        this.contentStarter = contentStarter;
+        if (!Objects.equals(style.getContentStarter(), contentStarter)) {
+            style = style.toBuilder().contentStarter(contentStarter).build();
+        }
     }
 
     /**
@@ -622,7 +1495,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current content terminator value
      */
     public String getContentTerminator() {
-        return contentTerminator;
+        return style.getContentTerminator();
     }
 
     /**
@@ -632,7 +1505,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param contentTerminator the content terminator value
      */
     public void setContentTerminator(String contentTerminator) {
-        this.contentTerminator = contentTerminator;
+        if (!Objects.equals(style.getContentTerminator(), contentTerminator)) {
+            style = style.toBuilder().contentTerminator(contentTerminator).build();
+        }
     }
 
     /**
@@ -642,7 +1517,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current content terminator value
      */
     public String getContentSeparator() {
-        return contentSeparator;
+        return style.getContentSeparator();
     }
 
     /**
@@ -652,7 +1527,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param contentSeparator the content separator value
      */
     public void setContentSeparator(String contentSeparator) {
-        this.contentSeparator = contentSeparator;
+        if (!Objects.equals(style.getContentSeparator(), contentSeparator)) {
+            style = style.toBuilder().contentSeparator(contentSeparator).build();
+        }
     }
 
     /**
@@ -662,7 +1539,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current array starter value
      */
     public String getArrayStarter() {
-        return arrayStarter;
+        return style.getArrayStarter();
     }
 
     /**
@@ -672,7 +1549,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param arrayStarter the array starter value
      */
     public void setArrayStarter(String arrayStarter) {
-        this.arrayStarter = arrayStarter;
+        if (!Objects.equals(style.getArrayStarter(), arrayStarter)) {
+            style = style.toBuilder().arrayStarter(arrayStarter).build();
+        }
     }
 
     /**
@@ -682,7 +1561,7 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @return the current array terminator value
      */
     public String getArrayTerminator() {
-        return arrayTerminator;
+        return style.getArrayTerminator();
     }
 
     /**
@@ -692,7 +1571,9 @@ public abstract class AbstractToStringStyleStrategy implements ToStringStyleStra
      * @param arrayTerminator the array terminator value
      */
     public void setArrayTerminator(String arrayTerminator) {
-        this.arrayTerminator = arrayTerminator;
+        if (!Objects.equals(style.getArrayTerminator(), arrayTerminator)) {
+            style = style.toBuilder().arrayTerminator(arrayTerminator).build();
+        }
     }
 
     /**
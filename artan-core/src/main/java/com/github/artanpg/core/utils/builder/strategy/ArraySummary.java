@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+/**
+ * How the arrays and the collections are summarized by a
+ * {@link AbstractToStringStyleStrategy}, so that the cost of rendering them
+ * is bounded by the summary instead of their size.
+ * <ul>
+ * <li>Only the first {@code headElements} and the last {@code tailElements}
+ * elements are rendered, and the elements in between are replaced by
+ * {@code ...N more}.</li>
+ * <li>A {@code byte[]} can be rendered as a single hexadecimal or base64
+ * text of at most {@code headElements + tailElements} bytes, instead of
+ * element by element.</li>
+ * <li>In the length-only mode, no element is rendered but the type and the
+ * length, such as {@code byte[10485760]}.</li>
+ * </ul>
+ * <p>Instances are immutable and can be shared between threads.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ArraySummary {
+
+    /**
+     * How the elements of a {@code byte[]} are rendered.
+     */
+    public enum BytesFormat {
+
+        /**
+         * As an array of decimal elements.
+         */
+        ELEMENTS,
+
+        /**
+         * As a lowercase hexadecimal text.
+         */
+        HEX,
+
+        /**
+         * As a base64 text, with padding.
+         */
+        BASE64
+    }
+
+    private static final ArraySummary LENGTH_ONLY = new ArraySummary(0, 0, BytesFormat.ELEMENTS, true);
+
+    private final int headElements;
+
+    private final int tailElements;
+
+    private final BytesFormat bytesFormat;
+
+    private final boolean lengthOnly;
+
+    private ArraySummary(int headElements, int tailElements, BytesFormat bytesFormat, boolean lengthOnly) {
+        this.headElements = headElements;
+        this.tailElements = tailElements;
+        this.bytesFormat = bytesFormat;
+        this.lengthOnly = lengthOnly;
+    }
+
+    public static ArraySummary of(int headElements, int tailElements) {
+        return of(headElements, tailElements, BytesFormat.ELEMENTS);
+    }
+
+    public static ArraySummary of(int headElements, int tailElements, BytesFormat bytesFormat) {
+        Asserts.isTrue(headElements >= 0, "The head elements can not be negative");
+        Asserts.isTrue(tailElements >= 0, "The tail elements can not be negative");
+        Asserts.isTrue((long) headElements + tailElements > 0, "At least one element must be rendered");
+        Asserts.isTrue((long) headElements + tailElements <= Integer.MAX_VALUE, "Too many elements to render");
+        Asserts.notNull(bytesFormat, "The bytes format can not be null");
+
+        return new ArraySummary(headElements, tailElements, bytesFormat, false);
+    }
+
+    public static ArraySummary lengthOnly() {
+        return LENGTH_ONLY;
+    }
+
+    /**
+     * Returns how many elements from the start are rendered.
+     *
+     * @return the head elements value
+     */
+    public int getHeadElements() {
+        return headElements;
+    }
+
+    /**
+     * Returns how many elements from the end are rendered.
+     *
+     * @return the tail elements value
+     */
+    public int getTailElements() {
+        return tailElements;
+    }
+
+    /**
+     * Returns how the elements of a {@code byte[]} are rendered.
+     *
+     * @return the bytes format value
+     */
+    public BytesFormat getBytesFormat() {
+        return bytesFormat;
+    }
+
+    /**
+     * Returns whether only the type and the length are rendered.
+     *
+     * @return true, if only the type and the length are rendered
+     */
+    public boolean isLengthOnly() {
+        return lengthOnly;
+    }
+
+}
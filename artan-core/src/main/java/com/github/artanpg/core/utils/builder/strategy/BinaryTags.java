@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+/**
+ * The version and the tags of the binary format written by
+ * {@link BinaryToStringStyle} and read by {@link BinaryToStringDecoder}.
+ * Each value is written after the tag of its type.
+ *
+ * @author Mohammad Yazdian
+ */
+abstract class BinaryTags {
+
+    /**
+     * The version of the format, written as the first byte of a record.
+     */
+    static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+
+    static final byte FALSE = 1;
+
+    static final byte TRUE = 2;
+
+    static final byte BYTE = 3;
+
+    static final byte CHAR = 4;
+
+    static final byte SHORT = 5;
+
+    static final byte INT = 6;
+
+    static final byte LONG = 7;
+
+    static final byte FLOAT = 8;
+
+    static final byte DOUBLE = 9;
+
+    static final byte STRING = 10;
+
+    static final byte DATE = 11;
+
+    static final byte OBJECT = 12;
+
+    static final byte BOOLEAN_ARRAY = 13;
+
+    static final byte BYTE_ARRAY = 14;
+
+    static final byte CHAR_ARRAY = 15;
+
+    static final byte SHORT_ARRAY = 16;
+
+    static final byte INT_ARRAY = 17;
+
+    static final byte LONG_ARRAY = 18;
+
+    static final byte FLOAT_ARRAY = 19;
+
+    static final byte DOUBLE_ARRAY = 20;
+
+    static final byte STRING_ARRAY = 21;
+
+    static final byte OBJECT_ARRAY = 22;
+
+    static final byte COLLECTION = 23;
+
+    static final byte TO_STRING = 24;
+
+    private BinaryTags() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Renders the records encoded by {@link BinaryToStringStyle} by replaying
+ * their fields into any {@link ToStringStyleStrategy}, so that an object is
+ * stored in the compact format and only formatted when it is viewed:
+ * <pre>{@code
+ * String json = BinaryToStringDecoder.toJson(record);
+ * String text = BinaryToStringDecoder.decode(record, DefaultToStringStyle.of(Order.class));
+ * }</pre>
+ * <p>Each field is replayed with the overload of its encoded type, so the
+ * output is the same as if the fields had been appended to the strategy
+ * directly, except that dates, temporals and enums are replayed as their
+ * text.
+ *
+ * @author Mohammad Yazdian
+ */
+public abstract class BinaryToStringDecoder {
+
+    private BinaryToStringDecoder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Renders the record in the json format of {@link JsonToStringStyle}.
+     *
+     * @param record the encoded record
+     * @return the record in the json format
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public static String toJson(byte[] record) {
+        return decode(record, JsonToStringStyle.of());
+    }
+
+    /**
+     * Replays the fields of the record into the given strategy.
+     *
+     * @param record   the encoded record
+     * @param strategy the strategy which renders the record
+     * @return the {@code toString} built by the strategy
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public static String decode(byte[] record, ToStringStyleStrategy strategy) {
+        Asserts.notNull(record, "The record can not be null");
+        return decode(record, 0, record.length, strategy);
+    }
+
+    /**
+     * Replays the fields of the record, stored in a range of the given
+     * bytes, into the given strategy.
+     *
+     * @param bytes    the bytes containing the encoded record
+     * @param offset   the index of the first byte of the record
+     * @param length   the number of bytes of the record
+     * @param strategy the strategy which renders the record
+     * @return the {@code toString} built by the strategy
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public static String decode(byte[] bytes, int offset, int length, ToStringStyleStrategy strategy) {
+        Asserts.notNull(bytes, "The bytes can not be null");
+        Asserts.notNull(strategy, "The strategy can not be null");
+        Asserts.isTrue(offset >= 0 && length >= 0 && offset + length <= bytes.length,
+                "The range is out of the bounds of the bytes");
+
+        Input input = new Input(bytes, offset, offset + length);
+        Asserts.isTrue(input.readByte() == BinaryTags.VERSION, "The version of the record is not supported");
+        strategy.appendStarter();
+        while (input.hasRemaining()) {
+            String fieldName = input.readName();
+            replay(input, input.readByte(), fieldName, strategy);
+        }
+        return strategy.toString();
+    }
+
+    private static void replay(Input input, byte tag, String fieldName, ToStringStyleStrategy strategy) {
+        switch (tag) {
+            case BinaryTags.NULL -> strategy.append(fieldName, (Object) null);
+            case BinaryTags.FALSE -> strategy.append(fieldName, false);
+            case BinaryTags.TRUE -> strategy.append(fieldName, true);
+            case BinaryTags.BYTE -> strategy.append(fieldName, input.readByte());
+            case BinaryTags.CHAR -> strategy.append(fieldName, (char) input.readVarint());
+            case BinaryTags.SHORT -> strategy.append(fieldName, (short) input.readZigzag());
+            case BinaryTags.INT -> strategy.append(fieldName, input.readZigzag());
+            case BinaryTags.LONG -> strategy.append(fieldName, input.readZigzagLong());
+            case BinaryTags.FLOAT -> strategy.append(fieldName, Float.intBitsToFloat(input.readInt()));
+            case BinaryTags.DOUBLE -> strategy.append(fieldName, Double.longBitsToDouble(input.readLong()));
+            case BinaryTags.STRING -> strategy.append(fieldName, input.readText());
+            case BinaryTags.DATE -> strategy.append(fieldName, new Date(input.readZigzagLong()));
+            case BinaryTags.OBJECT -> strategy.append(fieldName, (Object) new Text(input.readText()));
+            case BinaryTags.BOOLEAN_ARRAY -> strategy.append(fieldName, readBooleans(input));
+            case BinaryTags.BYTE_ARRAY -> strategy.append(fieldName, readBytes(input));
+            case BinaryTags.CHAR_ARRAY -> strategy.append(fieldName, readChars(input));
+            case BinaryTags.SHORT_ARRAY -> strategy.append(fieldName, readShorts(input));
+            case BinaryTags.INT_ARRAY -> strategy.append(fieldName, readInts(input));
+            case BinaryTags.LONG_ARRAY -> strategy.append(fieldName, readLongs(input));
+            case BinaryTags.FLOAT_ARRAY -> strategy.append(fieldName, readFloats(input));
+            case BinaryTags.DOUBLE_ARRAY -> strategy.append(fieldName, readDoubles(input));
+            case BinaryTags.STRING_ARRAY -> strategy.append(fieldName, readStrings(input));
+            case BinaryTags.OBJECT_ARRAY -> strategy.append(fieldName, toArray(readElements(input)));
+            case BinaryTags.COLLECTION -> strategy.append(fieldName, readElements(input));
+            case BinaryTags.TO_STRING -> strategy.append(input.readText());
+            default -> throw new IllegalArgumentException("Unknown tag " + tag + " in the record");
+        }
+    }
+
+    private static boolean[] readBooleans(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        boolean[] values = new boolean[count];
+        for (int i = 0; i < values.length; i += 8) {
+            int bits = input.readByte();
+            for (int j = i; j < Math.min(i + 8, values.length); j++) {
+                values[j] = (bits & (1 << (j - i))) != 0;
+            }
+        }
+        return values;
+    }
+
+    private static byte[] readBytes(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        byte[] values = new byte[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readByte();
+        }
+        return values;
+    }
+
+    private static char[] readChars(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        char[] values = new char[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (char) input.readVarint();
+        }
+        return values;
+    }
+
+    private static short[] readShorts(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        short[] values = new short[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (short) input.readZigzag();
+        }
+        return values;
+    }
+
+    private static int[] readInts(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        int[] values = new int[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readZigzag();
+        }
+        return values;
+    }
+
+    private static long[] readLongs(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        long[] values = new long[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readZigzagLong();
+        }
+        return values;
+    }
+
+    private static float[] readFloats(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        float[] values = new float[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Float.intBitsToFloat(input.readInt());
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        double[] values = new double[count];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Double.longBitsToDouble(input.readLong());
+        }
+        return values;
+    }
+
+    private static String[] readStrings(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < values.length; i++) {
+            byte tag = input.readByte();
+            Asserts.isTrue(tag == BinaryTags.NULL || tag == BinaryTags.STRING,
+                    "Unexpected tag " + tag + " in a string array");
+            values[i] = tag == BinaryTags.NULL ? null : input.readText();
+        }
+        return values;
+    }
+
+    private static List<Object> readElements(Input input) {
+        int count = input.readCount();
+        if (count < 0) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte tag = input.readByte();
+            switch (tag) {
+                case BinaryTags.NULL -> values.add(null);
+                case BinaryTags.STRING -> values.add(input.readText());
+                case BinaryTags.OBJECT -> values.add(new Text(input.readText()));
+                default -> throw new IllegalArgumentException("Unexpected tag " + tag + " in a collection");
+            }
+        }
+        return values;
+    }
+
+    private static Object[] toArray(List<Object> values) {
+        return Objects.isNull(values) ? null : values.toArray();
+    }
+
+    /**
+     * An object stored as its {@code toString()}, which is replayed as an
+     * object rather than a string so that it is rendered the same way.
+     */
+    private record Text(String text) {
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * The bytes of a record and the position being read.
+     */
+    private static final class Input {
+
+        private final byte[] bytes;
+
+        private final int limit;
+
+        private int position;
+
+        private Input(byte[] bytes, int offset, int limit) {
+            this.bytes = bytes;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        private boolean hasRemaining() {
+            return position < limit;
+        }
+
+        private byte readByte() {
+            Asserts.isTrue(position < limit, "The record is truncated");
+            return bytes[position++];
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("The record contains a malformed varint");
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("The record contains a malformed varint");
+        }
+
+        private int readZigzag() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readZigzagLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readInt() {
+            return (readByte() & 0xFF) << 24 | (readByte() & 0xFF) << 16 | (readByte() & 0xFF) << 8
+                    | (readByte() & 0xFF);
+        }
+
+        private long readLong() {
+            return (long) readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Reads the number of elements of an array, or {@code -1} if it is
+         * {@code null}, checked against the remaining bytes so that a
+         * malformed record can not allocate an arbitrarily large array.
+         */
+        private int readCount() {
+            int count = readVarint() - 1;
+            Asserts.isTrue(count >= -1 && count <= (long) (limit - position) * Byte.SIZE, "The record is truncated");
+            return count;
+        }
+
+        private String readText() {
+            return readText(readVarint());
+        }
+
+        /**
+         * Reads the name of a field, stored as its length plus one, or
+         * {@code 0} if it is {@code null}.
+         */
+        private String readName() {
+            int length = readVarint();
+            return length == 0 ? null : readText(length - 1);
+        }
+
+        private String readText(int length) {
+            Asserts.isTrue(length >= 0 && length <= limit - position, "The record is truncated");
+            String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return text;
+        }
+    }
+}
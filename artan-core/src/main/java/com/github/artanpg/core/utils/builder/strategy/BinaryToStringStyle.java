@@ -0,0 +1,571 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * An implementation of the {@link ToStringStyleStrategy} that encodes the
+ * appended fields in a compact binary format, to be stored and rendered
+ * later by {@link BinaryToStringDecoder} with any other strategy:
+ * <pre>{@code
+ * BinaryToStringStyle binary = BinaryToStringStyle.of();
+ * ToStringBuilder.costumeStyle(binary).append("id", id).append("name", name);
+ * byte[] record = binary.toBytes();
+ * String json = BinaryToStringDecoder.toJson(record);
+ * }</pre>
+ * <p>The record starts with a version byte, followed by each field as its
+ * name, a tag and the value. Names and strings are length-prefixed UTF-8,
+ * {@code short}, {@code int} and {@code long} are zigzag varints,
+ * {@code float} and {@code double} are their IEEE 754 bits, and arrays and
+ * collections are prefixed by their number of elements plus one, or
+ * {@code 0} if they are {@code null}. Dates and temporals
+ * are stored as the text the text styles render, and the other objects as
+ * their {@code toString()}.
+ * <p>The output is read by {@link #toBytes()}, {@link #writeTo(OutputStream)}
+ * or {@link #toString()}, any number of times and in any order, until the
+ * next object is started by {@link #appendStarter()}, which is the only
+ * place the record is cleared; the instance can then be used for the next
+ * object.
+ *
+ * @author Mohammad Yazdian
+ */
+public class BinaryToStringStyle implements ToStringStyleStrategy {
+
+    /**
+     * The encoded output.
+     */
+    private byte[] buffer;
+
+    /**
+     * Number of bytes written to the buffer.
+     */
+    private int position;
+
+    /**
+     * Reusable buffer for the dates and the temporals formatted as text.
+     */
+    private final StringBuilder scratch;
+
+    private BinaryToStringStyle(int initialCapacity) {
+        Asserts.isTrue(initialCapacity > 0, "The initial capacity must be positive");
+
+        this.buffer = new byte[initialCapacity];
+        this.scratch = new StringBuilder(32);
+    }
+
+    public static BinaryToStringStyle of() {
+        return new BinaryToStringStyle(AbstractToStringStyleStrategy.DEFAULT_CAPACITY);
+    }
+
+    public static BinaryToStringStyle of(int initialCapacity) {
+        return new BinaryToStringStyle(initialCapacity);
+    }
+
+    /**
+     * Clears the record of the previous object and starts a new one.
+     */
+    @Override
+    public void appendStarter() {
+        position = 0;
+        writeByte(BinaryTags.VERSION);
+    }
+
+    @Override
+    public void append(String fieldName, boolean value) {
+        writeName(fieldName);
+        writeByte(value ? BinaryTags.TRUE : BinaryTags.FALSE);
+    }
+
+    @Override
+    public void append(String fieldName, boolean[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.BOOLEAN_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        ensureCapacity((values.length + 7) >>> 3);
+        for (int i = 0; i < values.length; i += 8) {
+            int bits = 0;
+            for (int j = i; j < Math.min(i + 8, values.length); j++) {
+                bits |= values[j] ? 1 << (j - i) : 0;
+            }
+            buffer[position++] = (byte) bits;
+        }
+    }
+
+    @Override
+    public void append(String fieldName, byte value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.BYTE);
+        writeByte(value);
+    }
+
+    @Override
+    public void append(String fieldName, byte[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.BYTE_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, buffer, position, values.length);
+        position += values.length;
+    }
+
+    @Override
+    public void append(String fieldName, char value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.CHAR);
+        writeVarint(value);
+    }
+
+    @Override
+    public void append(String fieldName, char[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.CHAR_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (char value : values) {
+            writeVarint(value);
+        }
+    }
+
+    @Override
+    public void append(String fieldName, short value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.SHORT);
+        writeVarint(zigzag(value));
+    }
+
+    @Override
+    public void append(String fieldName, short[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.SHORT_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (short value : values) {
+            writeVarint(zigzag(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, int value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.INT);
+        writeVarint(zigzag(value));
+    }
+
+    @Override
+    public void append(String fieldName, int[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.INT_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (int value : values) {
+            writeVarint(zigzag(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, long value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.LONG);
+        writeVarLong(zigzag(value));
+    }
+
+    @Override
+    public void append(String fieldName, long[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.LONG_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (long value : values) {
+            writeVarLong(zigzag(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, float value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.FLOAT);
+        writeInt(Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void append(String fieldName, float[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.FLOAT_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (float value : values) {
+            writeInt(Float.floatToRawIntBits(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, double value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.DOUBLE);
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void append(String fieldName, double[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.DOUBLE_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (double value : values) {
+            writeLong(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, String value) {
+        writeName(fieldName);
+        writeString(value);
+    }
+
+    @Override
+    public void append(String fieldName, String[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.STRING_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    @Override
+    public void append(String fieldName, Date value) {
+        writeName(fieldName);
+        if (Objects.nonNull(value) && value.getClass() == Date.class) {
+            writeByte(BinaryTags.DATE);
+            writeVarLong(zigzag(value.getTime()));
+        } else {
+            writeString(format(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, Date[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.STRING_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (Date value : values) {
+            writeString(format(value));
+        }
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor value) {
+        writeName(fieldName);
+        writeString(format(value));
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.STRING_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (TemporalAccessor value : values) {
+            writeString(format(value));
+        }
+    }
+
+    @Override
+    public <T> void append(String fieldName, Collection<T> value) {
+        writeName(fieldName);
+        writeByte(BinaryTags.COLLECTION);
+        if (Objects.isNull(value)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(value.size() + 1);
+        for (T element : value) {
+            writeElement(element);
+        }
+    }
+
+    @Override
+    public void append(String fieldName, Enum<?> value) {
+        writeName(fieldName);
+        writeString(Objects.isNull(value) ? null : value.toString());
+    }
+
+    @Override
+    public <T> void append(String fieldName, T value) {
+        writeName(fieldName);
+        writeElement(value);
+    }
+
+    @Override
+    public <T> void append(String fieldName, T[] values) {
+        writeName(fieldName);
+        writeByte(BinaryTags.OBJECT_ARRAY);
+        if (Objects.isNull(values)) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(values.length + 1);
+        for (T value : values) {
+            writeElement(value);
+        }
+    }
+
+    @Override
+    public void append(String toString) {
+        if (StringUtils.hasText(toString)) {
+            writeName(null);
+            writeByte(BinaryTags.TO_STRING);
+            writeText(toString, 0);
+        }
+    }
+
+    /**
+     * Does nothing, since the record ends with the last field.
+     */
+    @Override
+    public void appendTerminator() {
+    }
+
+    /**
+     * Returns a copy of the bytes of the record, which is kept.
+     *
+     * @return the encoded record
+     */
+    public byte[] toBytes() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Writes the bytes of the record, which is kept, to the given stream.
+     *
+     * @param target the stream to write the encoded record to
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream target) {
+        Asserts.notNull(target, "The target can not be null");
+
+        try {
+            target.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders the record, which is kept, in the json format, which is meant
+     * for debugging; the record itself is taken by {@link #toBytes()}.
+     *
+     * @return the record in the json format
+     */
+    @Override
+    public String toString() {
+        return BinaryToStringDecoder.decode(buffer, 0, position, JsonToStringStyle.of());
+    }
+
+    /**
+     * Writes the name of a field, as its length in UTF-8 plus one followed
+     * by its bytes, or a single {@code 0} if it is {@code null}.
+     */
+    private void writeName(String fieldName) {
+        if (Objects.isNull(fieldName)) {
+            writeByte(0);
+        } else {
+            writeText(fieldName, 1);
+        }
+    }
+
+    private void writeString(String value) {
+        if (Objects.isNull(value)) {
+            writeByte(BinaryTags.NULL);
+        } else {
+            writeByte(BinaryTags.STRING);
+            writeText(value, 0);
+        }
+    }
+
+    /**
+     * Writes a value the way the text styles render an {@code Object}: the
+     * strings are quoted and the other objects are written as their
+     * {@code toString()}.
+     */
+    private void writeElement(Object value) {
+        if (Objects.isNull(value) || value instanceof String) {
+            writeString((String) value);
+        } else {
+            writeByte(BinaryTags.OBJECT);
+            writeText(String.valueOf(value), 0);
+        }
+    }
+
+    /**
+     * Returns the text of a date the way the text styles render it.
+     */
+    private String format(Date value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        scratch.setLength(0);
+        return TemporalFormats.format(value, scratch) ? scratch.toString() : value.toString();
+    }
+
+    /**
+     * Returns the text of a temporal the way the text styles render it.
+     */
+    private String format(TemporalAccessor value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        scratch.setLength(0);
+        return TemporalFormats.format(value, scratch) ? scratch.toString() : value.toString();
+    }
+
+    /**
+     * Writes the length of the text in UTF-8, plus the given bias, followed
+     * by its bytes. ASCII text is encoded in place, without an intermediate
+     * array.
+     */
+    private void writeText(String value, int bias) {
+        int length = value.length();
+        int ascii = 0;
+        while (ascii < length && value.charAt(ascii) < 0x80) {
+            ascii++;
+        }
+        if (ascii < length) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + bias);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+            return;
+        }
+        writeVarint(length + bias);
+        ensureCapacity(length);
+        byte[] bytes = buffer;
+        int index = position;
+        for (int i = 0; i < length; i++) {
+            bytes[index++] = (byte) value.charAt(i);
+        }
+        position = index;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Writes an unsigned varint: seven bits per byte, the lowest first, with
+     * the high bit set on all the bytes but the last.
+     */
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * Maps the signed values to unsigned ones so that the values close to
+     * zero, negative or not, are written in few bytes.
+     */
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void ensureCapacity(int length) {
+        int required = position + length;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -27,12 +27,20 @@ import java.util.Date;
  */
 public class DefaultToStringStyle extends AbstractToStringStyleStrategy {
 
-    private DefaultToStringStyle(Class<?> aClass) {
-        setClassName(aClass.getSimpleName());
+    private DefaultToStringStyle(Class<?> aClass, ToStringStyle style, int initialCapacity) {
+        super(aClass.getSimpleName(), style, initialCapacity);
     }
 
     public static <T> DefaultToStringStyle of(Class<T> aClass) {
-        return new DefaultToStringStyle(aClass);
+        return new DefaultToStringStyle(aClass, ToStringStyle.DEFAULT, DEFAULT_CAPACITY);
+    }
+
+    public static <T> DefaultToStringStyle of(Class<T> aClass, int initialCapacity) {
+        return new DefaultToStringStyle(aClass, ToStringStyle.DEFAULT, initialCapacity);
+    }
+
+    public static <T> DefaultToStringStyle of(Class<T> aClass, ToStringStyle style) {
+        return new DefaultToStringStyle(aClass, style, DEFAULT_CAPACITY);
     }
 
     @Override
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The prefixes of the fields of a {@link ToStringStyle}, such as
+ * {@code 'name'=} or {@code "name":}, built once per field name and appended
+ * with a single bulk copy instead of four appends per field.
+ * <p>Only the field names without characters to escape are cached, so the
+ * cached prefix is the same whether the style escapes its text or not. The
+ * number of cached names is bounded, so that field names built at runtime,
+ * such as the keys of a map, can not grow the cache without limit.
+ *
+ * @author Mohammad Yazdian
+ */
+final class FieldNamePrefixes {
+
+    /**
+     * Number of field names after which the prefixes are not cached anymore.
+     */
+    private static final int MAX_ENTRIES = 1024;
+
+    private final String contentStarter;
+
+    private final String contentSuffix;
+
+    private final Map<String, char[]> chars = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> bytes = new ConcurrentHashMap<>();
+
+    FieldNamePrefixes(String contentStarter, String contentTerminator, String contentSeparator) {
+        this.contentStarter = contentStarter;
+        this.contentSuffix = contentTerminator + contentSeparator;
+    }
+
+    /**
+     * Returns the prefix of the field as characters.
+     *
+     * @param fieldName the field name
+     * @return the prefix, or {@code null} if it is not cached
+     */
+    char[] chars(String fieldName) {
+        char[] prefix = chars.get(fieldName);
+        if (Objects.isNull(prefix) && isCacheable(fieldName, chars)) {
+            prefix = prefix(fieldName).toCharArray();
+            chars.putIfAbsent(fieldName, prefix);
+        }
+        return prefix;
+    }
+
+    /**
+     * Returns the prefix of the field encoded as UTF-8.
+     *
+     * @param fieldName the field name
+     * @return the prefix, or {@code null} if it is not cached
+     */
+    byte[] bytes(String fieldName) {
+        byte[] prefix = bytes.get(fieldName);
+        if (Objects.isNull(prefix) && isCacheable(fieldName, bytes)) {
+            prefix = prefix(fieldName).getBytes(StandardCharsets.UTF_8);
+            bytes.putIfAbsent(fieldName, prefix);
+        }
+        return prefix;
+    }
+
+    private String prefix(String fieldName) {
+        return contentStarter + fieldName + contentSuffix;
+    }
+
+    private static boolean isCacheable(String fieldName, Map<String, ?> cache) {
+        return cache.size() < MAX_ENTRIES
+                && JsonEscapes.indexOfEscape(fieldName, 0, fieldName.length()) == fieldName.length();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import java.util.Objects;
+
+/**
+ * The state shared by the strategies rendering one object graph under
+ * {@link ToStringLimits}: the objects on the path from the root to the object
+ * being rendered, and the length of the output which the enclosing strategies
+ * have already produced.
+ * <p>The context is published to the current thread only while a nested
+ * object is rendered by its {@code toString()}, so the strategies created by
+ * that {@code toString()} join the same graph, and nothing is left behind
+ * when the rendering ends or fails.
+ *
+ * @author Mohammad Yazdian
+ */
+final class GraphContext {
+
+    private static final ThreadLocal<GraphContext> CURRENT = new ThreadLocal<>();
+
+    private final ToStringLimits limits;
+
+    private final Object[] path;
+
+    private int depth;
+
+    /**
+     * Length of the output of the enclosing strategies.
+     */
+    private int used;
+
+    /**
+     * Constructs the context of a graph whose root object is being rendered.
+     *
+     * @param limits the limits of the rendering
+     * @param root   the object at the root of the graph, or {@code null} if
+     *               it is not known, in which case a cycle back to the root
+     *               is only cut after the root is rendered once more
+     */
+    GraphContext(ToStringLimits limits, Object root) {
+        this.limits = limits;
+        if (Objects.isNull(root)) {
+            this.path = new Object[limits.getMaxDepth()];
+        } else {
+            // the root is on the path but does not count as a nested level
+            this.path = new Object[limits.getMaxDepth() + 1];
+            this.path[depth++] = root;
+        }
+    }
+
+    /**
+     * Returns the context of the graph which is being rendered by the current
+     * thread.
+     *
+     * @return the current context, or {@code null} if there is none
+     */
+    static GraphContext current() {
+        return CURRENT.get();
+    }
+
+    ToStringLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Returns the number of characters left for the output of a strategy
+     * rendering at the current position of the graph.
+     *
+     * @return the remaining length of the output
+     */
+    int remaining() {
+        return Math.max(0, limits.getMaxLength() - used);
+    }
+
+    /**
+     * Returns whether the value may be rendered by its {@code toString()}:
+     * the max depth is not reached and the value is not already being
+     * rendered, compared by identity.
+     *
+     * @param value the nested value to render
+     * @return true, if the value can be descended into
+     */
+    boolean canDescend(Object value) {
+        if (depth >= path.length) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (path[i] == value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Enters a nested value and publishes this context to the current thread.
+     *
+     * @param value  the nested value to render
+     * @param length the length of the output of the strategy entering it
+     * @return the context previously published, to pass to {@link #exit}
+     */
+    GraphContext enter(Object value, int length) {
+        path[depth++] = value;
+        used += length;
+        GraphContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Leaves the nested value entered last and restores the previously
+     * published context.
+     *
+     * @param previous the context returned by {@link #enter}
+     * @param length   the length passed to {@link #enter}
+     */
+    void exit(GraphContext previous, int length) {
+        path[--depth] = null;
+        used -= length;
+        if (Objects.isNull(previous)) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
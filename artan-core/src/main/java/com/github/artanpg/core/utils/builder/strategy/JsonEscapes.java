@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+/**
+ * Escaping of json strings as defined by RFC 8259.
+ * <p>Only the quotation mark, the reverse solidus and the control characters
+ * must be escaped. A text is first scanned against a lookup table, so clean
+ * text is appended in bulk and only the characters that need it are escaped
+ * one by one.
+ *
+ * @author Mohammad Yazdian
+ */
+abstract class JsonEscapes {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The escape of each ASCII character: {@code 0} for none, {@code 'u'} for
+     * a six-character unicode escape, otherwise the character following the
+     * reverse solidus.
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = 'u';
+        }
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+
+    private JsonEscapes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Returns whether the character must be escaped.
+     *
+     * @param c the character to check
+     * @return true, if the character must be escaped
+     */
+    static boolean needsEscape(char c) {
+        return c < 128 && ESCAPES[c] != 0;
+    }
+
+    /**
+     * Finds the first character of the text that must be escaped.
+     *
+     * @param text  the text to search
+     * @param start the index to start from
+     * @param end   the index to stop at, exclusive
+     * @return the index of the first character to escape, or {@code end}
+     */
+    static int indexOfEscape(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 128 && ESCAPES[c] != 0) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Appends the text to the builder with the json escapes applied.
+     *
+     * @param text    the text to escape
+     * @param builder where the escaped text is appended to
+     */
+    static void escape(String text, StringBuilder builder) {
+        int length = text.length();
+        int index = indexOfEscape(text, 0, length);
+        if (index == length) {
+            builder.append(text);
+            return;
+        }
+        int start = 0;
+        while (index < length) {
+            builder.append(text, start, index);
+            escape(text.charAt(index), builder);
+            start = index + 1;
+            index = indexOfEscape(text, start, length);
+        }
+        builder.append(text, start, length);
+    }
+
+    /**
+     * Appends the character to the builder with the json escapes applied.
+     *
+     * @param c       the character to escape
+     * @param builder where the escaped character is appended to
+     */
+    static void escape(char c, StringBuilder builder) {
+        if (!needsEscape(c)) {
+            builder.append(c);
+        } else if (ESCAPES[c] == 'u') {
+            builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+        } else {
+            builder.append('\\').append((char) ESCAPES[c]);
+        }
+    }
+
+    /**
+     * Writes the escape sequence of a character which needs escaping into
+     * the bytes.
+     *
+     * @param c     the character to escape
+     * @param bytes where the escape sequence is written to
+     * @param index the index to start writing at
+     * @return the number of bytes written
+     */
+    static int escape(char c, byte[] bytes, int index) {
+        bytes[index] = '\\';
+        if (ESCAPES[c] != 'u') {
+            bytes[index + 1] = ESCAPES[c];
+            return 2;
+        }
+        bytes[index + 1] = 'u';
+        bytes[index + 2] = '0';
+        bytes[index + 3] = '0';
+        bytes[index + 4] = (byte) HEX_DIGITS[c >> 4];
+        bytes[index + 5] = (byte) HEX_DIGITS[c & 0xF];
+        return 6;
+    }
+}
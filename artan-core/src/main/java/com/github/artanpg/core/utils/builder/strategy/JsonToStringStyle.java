@@ -29,18 +29,16 @@ import java.util.Date;
  */
 public class JsonToStringStyle extends AbstractToStringStyleStrategy {
 
-    private JsonToStringStyle() {
-        setStringStarter("{");
-        setStringTerminator("}");
-        setArrayStarter("[");
-        setArrayTerminator("]");
-        setContentStarter("\"");
-        setContentTerminator("\"");
-        setContentSeparator(":");
+    private JsonToStringStyle(ToStringStyle style) {
+        super(style, DEFAULT_CAPACITY);
     }
 
     public static JsonToStringStyle of() {
-        return new JsonToStringStyle();
+        return new JsonToStringStyle(ToStringStyle.JSON);
+    }
+
+    public static JsonToStringStyle of(ToStringStyle style) {
+        return new JsonToStringStyle(style);
     }
 
     @Override
@@ -205,5 +203,14 @@ public class JsonToStringStyle extends AbstractToStringStyleStrategy {
         super.appendFieldNames(fieldName);
     }
 
+    @Override
+    protected void appendText(String text) {
+        JsonEscapes.escape(text, getBuilder());
+    }
+
+    @Override
+    protected void appendText(char text) {
+        JsonEscapes.escape(text, getBuilder());
+    }
 
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * An implementation of the {@link ToStringStyleStrategy} that forwards each
+ * appended field to a {@link ToStringSink} as a typed key/value event,
+ * instead of formatting a text.
+ * <p>A structured logger receives the fields directly, without the
+ * {@code toString} being built and parsed again:
+ * <pre>{@code
+ * ToStringBuilder.structuredStyle(Order.class, sink)
+ *         .append("id", id)
+ *         .append("amount", amount)
+ *         .build();
+ * }</pre>
+ * <p>The strategy keeps no output of its own, so {@link #toString()} ends
+ * the event and returns an empty string. It can be reused for any number of
+ * objects, and is as thread-safe as its sink.
+ *
+ * @author Mohammad Yazdian
+ */
+public class StructuredToStringStyle implements ToStringStyleStrategy {
+
+    private final String className;
+
+    private final ToStringSink sink;
+
+    private StructuredToStringStyle(String className, ToStringSink sink) {
+        Asserts.notNull(sink, "The sink can not be null");
+
+        this.className = className;
+        this.sink = sink;
+    }
+
+    public static StructuredToStringStyle of(ToStringSink sink) {
+        return new StructuredToStringStyle(null, sink);
+    }
+
+    public static <T> StructuredToStringStyle of(Class<T> aClass, ToStringSink sink) {
+        Asserts.notNull(aClass, "The class can not be null");
+        return new StructuredToStringStyle(aClass.getSimpleName(), sink);
+    }
+
+    @Override
+    public void appendStarter() {
+        sink.onStart(className);
+    }
+
+    @Override
+    public void append(String fieldName, boolean value) {
+        sink.onBoolean(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, boolean[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, byte value) {
+        sink.onInt(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, byte[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, char value) {
+        sink.onChar(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, char[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, short value) {
+        sink.onInt(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, short[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, int value) {
+        sink.onInt(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, int[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, long value) {
+        sink.onLong(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, long[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, float value) {
+        sink.onFloat(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, float[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, double value) {
+        sink.onDouble(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, double[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, String value) {
+        sink.onString(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, String[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, Date value) {
+        sink.onObject(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, Date[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor value) {
+        sink.onObject(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public <T> void append(String fieldName, Collection<T> value) {
+        sink.onObject(fieldName, value);
+    }
+
+    @Override
+    public void append(String fieldName, Enum<?> value) {
+        sink.onObject(fieldName, value);
+    }
+
+    @Override
+    public <T> void append(String fieldName, T value) {
+        sink.onObject(fieldName, value);
+    }
+
+    @Override
+    public <T> void append(String fieldName, T[] values) {
+        sink.onObject(fieldName, values);
+    }
+
+    @Override
+    public void append(String toString) {
+        sink.onToString(toString);
+    }
+
+    @Override
+    public void appendTerminator() {
+        sink.onEnd();
+    }
+
+    /**
+     * Ends the event of the object.
+     *
+     * @return an empty string, since the fields were sent to the sink
+     */
+    @Override
+    public String toString() {
+        appendTerminator();
+        return "";
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+
+/**
+ * Writes the ISO-8601 representation of dates and times digit by digit into
+ * a {@link StringBuilder}, without creating an intermediate {@code String}.
+ * The {@code java.time} types are written exactly as their
+ * {@code toString()} returns them, and every {@code java.util.Date} as an
+ * instant in UTC.
+ *
+ * @author Mohammad Yazdian
+ */
+abstract class TemporalFormats {
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private static final long DAYS_PER_CYCLE = 146097;
+
+    private static final long DAYS_0000_TO_1970 = 719528;
+
+    /**
+     * Epoch second of {@code 0000-01-01T00:00:00Z}.
+     */
+    private static final long MIN_SECOND = -62167219200L;
+
+    /**
+     * Epoch second of {@code 9999-12-31T23:59:59Z}.
+     */
+    private static final long MAX_SECOND = 253402300799L;
+
+    private TemporalFormats() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Appends a {@code java.util.Date}, or any of its subclasses such as
+     * {@code java.sql.Timestamp}, as an ISO-8601 instant in UTC, such as
+     * {@code 2024-01-31T10:15:30.250Z}. The fraction of a
+     * {@code java.sql.Timestamp} keeps its nanoseconds.
+     * <p>This replaces the {@code toString()} of the dates, whose format
+     * depends on the default time zone and differs between the subclasses.
+     *
+     * @param value   the date to format
+     * @param builder where the date is appended to
+     * @return true, if the date was written; false if it is out of the
+     * supported range and must be formatted by its {@code toString()}
+     */
+    static boolean format(Date value, StringBuilder builder) {
+        long millis = value.getTime();
+        int nano = value instanceof Timestamp timestamp
+                ? timestamp.getNanos()
+                : Math.floorMod(millis, 1000) * 1_000_000;
+        return formatInstant(Math.floorDiv(millis, 1000), nano, builder);
+    }
+
+    /**
+     * Appends the ISO-8601 representation of the common {@code java.time}
+     * types, identical to their {@code toString()}.
+     *
+     * @param value   the temporal to format
+     * @param builder where the temporal is appended to
+     * @return true, if the temporal was written; false if its type is not
+     * supported and it must be formatted by its {@code toString()}
+     */
+    static boolean format(TemporalAccessor value, StringBuilder builder) {
+        if (value instanceof LocalDateTime dateTime) {
+            formatDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), builder);
+            builder.append('T');
+            formatTime(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), builder);
+        } else if (value instanceof LocalDate date) {
+            formatDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), builder);
+        } else if (value instanceof LocalTime time) {
+            formatTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), builder);
+        } else if (value instanceof Instant instant) {
+            return formatInstant(instant.getEpochSecond(), instant.getNano(), builder);
+        } else if (value instanceof OffsetDateTime dateTime) {
+            format(dateTime.toLocalDateTime(), builder);
+            builder.append(dateTime.getOffset().getId());
+        } else if (value instanceof ZonedDateTime dateTime) {
+            format(dateTime.toLocalDateTime(), builder);
+            builder.append(dateTime.getOffset().getId());
+            if (dateTime.getOffset() != dateTime.getZone()) {
+                builder.append('[').append(dateTime.getZone().getId()).append(']');
+            }
+        } else if (value instanceof OffsetTime time) {
+            format(time.toLocalTime(), builder);
+            builder.append(time.getOffset().getId());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends an instant in the form of {@link Instant#toString()}, for the
+     * years 0000 to 9999.
+     */
+    private static boolean formatInstant(long epochSecond, int nano, StringBuilder builder) {
+        if (epochSecond < MIN_SECOND || epochSecond > MAX_SECOND) {
+            return false;
+        }
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay -= adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEstimate = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long dayOfYearEstimate = zeroDay - daysBeforeYear(yearEstimate);
+        if (dayOfYearEstimate < 0) {
+            yearEstimate--;
+            dayOfYearEstimate = zeroDay - daysBeforeYear(yearEstimate);
+        }
+        yearEstimate += adjust;
+        int marchDayOfYear = (int) dayOfYearEstimate;
+        int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        int year = (int) (yearEstimate + marchMonth / 10);
+
+        formatDate(year, month, day, builder);
+        builder.append('T');
+        appendTwoDigits(secondOfDay / 3600, builder);
+        builder.append(':');
+        appendTwoDigits(secondOfDay / 60 % 60, builder);
+        builder.append(':');
+        appendTwoDigits(secondOfDay % 60, builder);
+        formatFraction(nano, builder);
+        builder.append('Z');
+        return true;
+    }
+
+    /**
+     * Returns the number of days from the start of the proleptic year 0 to the
+     * start of the given year, counted in march-based years.
+     */
+    private static long daysBeforeYear(long year) {
+        return 365 * year + year / 4 - year / 100 + year / 400;
+    }
+
+    /**
+     * Appends a date in the form of {@link LocalDate#toString()}.
+     */
+    private static void formatDate(int year, int month, int day, StringBuilder builder) {
+        int absoluteYear = Math.abs(year);
+        if (absoluteYear < 1000) {
+            if (year < 0) {
+                builder.append('-');
+            }
+            appendDigits(absoluteYear, 4, builder);
+        } else {
+            if (year > 9999) {
+                builder.append('+');
+            }
+            builder.append(year);
+        }
+        builder.append('-');
+        appendTwoDigits(month, builder);
+        builder.append('-');
+        appendTwoDigits(day, builder);
+    }
+
+    /**
+     * Appends a time in the form of {@link LocalTime#toString()}, which omits
+     * the seconds and the fraction when they are zero.
+     */
+    private static void formatTime(int hour, int minute, int second, int nano, StringBuilder builder) {
+        appendTwoDigits(hour, builder);
+        builder.append(':');
+        appendTwoDigits(minute, builder);
+        if (second > 0 || nano > 0) {
+            builder.append(':');
+            appendTwoDigits(second, builder);
+            formatFraction(nano, builder);
+        }
+    }
+
+    /**
+     * Appends the fraction of a second in groups of three digits, as many as
+     * needed.
+     */
+    private static void formatFraction(int nano, StringBuilder builder) {
+        if (nano == 0) {
+            return;
+        }
+        builder.append('.');
+        if (nano % 1_000_000 == 0) {
+            appendDigits(nano / 1_000_000, 3, builder);
+        } else if (nano % 1000 == 0) {
+            appendDigits(nano / 1000, 6, builder);
+        } else {
+            appendDigits(nano, 9, builder);
+        }
+    }
+
+    private static void appendTwoDigits(int value, StringBuilder builder) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Appends a non-negative value left-padded with zeros to the given width.
+     */
+    private static void appendDigits(int value, int width, StringBuilder builder) {
+        for (int divisor = pow10(width - 1); divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
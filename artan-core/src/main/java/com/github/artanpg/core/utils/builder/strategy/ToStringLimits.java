@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+/**
+ * The limits of the graph-aware rendering mode of a
+ * {@link AbstractToStringStyleStrategy}, which bound the cost of rendering an
+ * arbitrary object graph.
+ * <ul>
+ * <li>{@code maxDepth}: how many levels of nested objects are rendered by
+ * their {@code toString()}. Deeper objects, and objects which are already
+ * being rendered higher up the graph, are rendered by their class name and
+ * identity hash code instead, so cycles terminate. A cycle back to the root
+ * is cut at once only if the root object is given to the strategy, see
+ * {@link AbstractToStringStyleStrategy#setRoot(Object)}.</li>
+ * <li>{@code maxElements}: how many elements of an array or a collection are
+ * rendered, the rest are elided.</li>
+ * <li>{@code maxLength}: how many characters the whole output, including the
+ * nested objects, may have. Longer output is cut and ended by
+ * {@code ...}.</li>
+ * </ul>
+ * <p>The limits are enforced by the strategies: a nested object whose
+ * {@code toString()} does not use a strategy, such as a {@code Map}, is
+ * rendered in full by its own {@code toString()} and then cut to the
+ * remaining length, so its cost is not bounded by {@code maxLength}, and a
+ * cycle which does not pass through a strategy is not detected.
+ * <p>Instances are immutable and can be shared between threads.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ToStringLimits {
+
+    /**
+     * Default number of nested levels rendered.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 3;
+
+    /**
+     * Default number of elements rendered per array or collection.
+     */
+    public static final int DEFAULT_MAX_ELEMENTS = 32;
+
+    /**
+     * Default number of characters of the whole output.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 4096;
+
+    private static final ToStringLimits DEFAULTS =
+            new ToStringLimits(DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_LENGTH);
+
+    private final int maxDepth;
+
+    private final int maxElements;
+
+    private final int maxLength;
+
+    private ToStringLimits(int maxDepth, int maxElements, int maxLength) {
+        Asserts.isTrue(maxDepth >= 0, "The max depth can not be negative");
+        Asserts.isTrue(maxElements > 0, "The max elements must be positive");
+        Asserts.isTrue(maxLength > 0, "The max length must be positive");
+
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxLength = maxLength;
+    }
+
+    public static ToStringLimits of(int maxDepth, int maxElements, int maxLength) {
+        return new ToStringLimits(maxDepth, maxElements, maxLength);
+    }
+
+    public static ToStringLimits defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns how many levels of nested objects are rendered.
+     *
+     * @return the max depth value
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns how many elements of an array or a collection are rendered.
+     *
+     * @return the max elements value
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Returns how many characters the whole output may have.
+     *
+     * @return the max length value
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+/**
+ * Receives the fields of a {@code toString} as typed key/value events from a
+ * {@link StructuredToStringStyle}, so that a structured logger can write
+ * them as fields without formatting and parsing a text.
+ * <p>The primitive values are passed without boxing: {@code byte} and
+ * {@code short} are widened to {@code int}. Arrays, collections, dates and
+ * other objects are passed as they are to {@link #onObject}, and may be
+ * {@code null}. The field name is {@code null} if the field was appended
+ * without a name.
+ *
+ * @author Mohammad Yazdian
+ */
+public interface ToStringSink {
+
+    /**
+     * Called before the fields of an object.
+     *
+     * @param className the simple name of the class of the object, or
+     *                  {@code null} if it is not known
+     */
+    default void onStart(String className) {
+    }
+
+    void onBoolean(String fieldName, boolean value);
+
+    void onChar(String fieldName, char value);
+
+    void onInt(String fieldName, int value);
+
+    void onLong(String fieldName, long value);
+
+    void onFloat(String fieldName, float value);
+
+    void onDouble(String fieldName, double value);
+
+    void onString(String fieldName, String value);
+
+    void onObject(String fieldName, Object value);
+
+    /**
+     * Called with the result of {@code super.toString()} or the
+     * {@code toString()} of another object appended as a whole. Ignored by
+     * default.
+     *
+     * @param toString the appended {@code toString}
+     */
+    default void onToString(String toString) {
+    }
+
+    /**
+     * Called after the fields of an object.
+     */
+    default void onEnd() {
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+import java.util.Objects;
+
+/**
+ * The immutable configuration of the output of a
+ * {@link AbstractToStringStyleStrategy}: the symbols around the
+ * {@code toString}, the field names, the values and the arrays, and how the
+ * output is bounded.
+ * <p>A style is validated once when it is built, and it can be shared by any
+ * number of strategies and threads, while each strategy only holds the
+ * buffer of the {@code toString} it is building:
+ * <pre>{@code
+ * ToStringStyle style = ToStringStyle.builder()
+ *         .stringStarter("[")
+ *         .stringTerminator("]")
+ *         .build();
+ * ToStringBuilder.costumeStyle(Person.class, style).append("name", name).build();
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ToStringStyle {
+
+    /**
+     * The style of the {@link DefaultToStringStyle}, such as
+     * {@code Person('name'='Ali','tags'={'a','b'})}.
+     */
+    public static final ToStringStyle DEFAULT = builder().build();
+
+    /**
+     * The style of the {@link JsonToStringStyle}, such as
+     * {@code {"name":"Ali","tags":["a","b"]}}.
+     */
+    public static final ToStringStyle JSON = builder()
+            .stringStarter("{")
+            .stringTerminator("}")
+            .contentStarter("\"")
+            .contentTerminator("\"")
+            .contentSeparator(":")
+            .arrayStarter("[")
+            .arrayTerminator("]")
+            .build();
+
+    private final boolean useFieldNames;
+
+    private final String stringStarter;
+
+    private final String stringTerminator;
+
+    private final String contentStarter;
+
+    private final String contentTerminator;
+
+    private final String contentSeparator;
+
+    private final String arrayStarter;
+
+    private final String arrayTerminator;
+
+    private final ToStringLimits limits;
+
+    private final ArraySummary arraySummary;
+
+    /**
+     * The prefixes of the fields, built once and shared by all the strategies
+     * of this style.
+     */
+    private final FieldNamePrefixes prefixes;
+
+    private ToStringStyle(StyleBuilder builder) {
+        Asserts.hasText(builder.stringStarter, "The string starter can not be null or empty");
+        Asserts.hasText(builder.stringTerminator, "The string terminator can not be null or empty");
+        Asserts.notNull(builder.contentStarter, "The content starter can not be null");
+        Asserts.notNull(builder.contentTerminator, "The content terminator can not be null");
+        Asserts.notNull(builder.contentSeparator, "The content separator can not be null");
+        Asserts.notNull(builder.arrayStarter, "The array starter can not be null");
+        Asserts.notNull(builder.arrayTerminator, "The array terminator can not be null");
+
+        this.useFieldNames = builder.useFieldNames;
+        this.stringStarter = builder.stringStarter;
+        this.stringTerminator = builder.stringTerminator;
+        this.contentStarter = builder.contentStarter;
+        this.contentTerminator = builder.contentTerminator;
+        this.contentSeparator = builder.contentSeparator;
+        this.arrayStarter = builder.arrayStarter;
+        this.arrayTerminator = builder.arrayTerminator;
+        this.limits = builder.limits;
+        this.arraySummary = builder.arraySummary;
+        this.prefixes = Objects.nonNull(builder.prefixes)
+                ? builder.prefixes : new FieldNamePrefixes(contentStarter, contentTerminator, contentSeparator);
+    }
+
+    /**
+     * Starts a style from the symbols of the {@link #DEFAULT} style.
+     *
+     * @return a new style builder
+     */
+    public static StyleBuilder builder() {
+        return new StyleBuilder();
+    }
+
+    /**
+     * Starts a style from the configuration of this style, to build a
+     * modified copy of it.
+     *
+     * @return a new style builder
+     */
+    public StyleBuilder toBuilder() {
+        StyleBuilder builder = new StyleBuilder()
+                .useFieldNames(useFieldNames)
+                .stringStarter(stringStarter)
+                .stringTerminator(stringTerminator)
+                .contentStarter(contentStarter)
+                .contentTerminator(contentTerminator)
+                .contentSeparator(contentSeparator)
+                .arrayStarter(arrayStarter)
+                .arrayTerminator(arrayTerminator)
+                .limits(limits)
+                .arraySummary(arraySummary);
+        builder.prefixes = prefixes;
+        return builder;
+    }
+
+    /**
+     * Returns whether the symbols of this style are those of {@link #JSON},
+     * whatever its limits and array summary, so that its output is only
+     * valid if the text is escaped as JSON strings and no class name is
+     * written.
+     *
+     * @return true, if this style has the symbols of JSON
+     */
+    public boolean isJson() {
+        return useFieldNames && stringStarter.equals("{") && stringTerminator.equals("}")
+                && contentStarter.equals("\"") && contentTerminator.equals("\"") && contentSeparator.equals(":")
+                && arrayStarter.equals("[") && arrayTerminator.equals("]");
+    }
+
+    /**
+     * Returns whether to use the field names in {@code toString}.
+     *
+     * @return the useFieldNames value
+     */
+    public boolean isUseFieldNames() {
+        return useFieldNames;
+    }
+
+    /**
+     * Returns the string starter symbol.
+     *
+     * @return the string starter value
+     */
+    public String getStringStarter() {
+        return stringStarter;
+    }
+
+    /**
+     * Returns the string terminator symbol.
+     *
+     * @return the string terminator value
+     */
+    public String getStringTerminator() {
+        return stringTerminator;
+    }
+
+    /**
+     * Returns the string starter symbol for field names and values.
+     *
+     * @return the content starter value
+     */
+    public String getContentStarter() {
+        return contentStarter;
+    }
+
+    /**
+     * Returns the string terminator symbol for field names and values.
+     *
+     * @return the content terminator value
+     */
+    public String getContentTerminator() {
+        return contentTerminator;
+    }
+
+    /**
+     * Returns the string separator symbol for field names and values.
+     *
+     * @return the content separator value
+     */
+    public String getContentSeparator() {
+        return contentSeparator;
+    }
+
+    /**
+     * Returns the array starter symbol for values.
+     *
+     * @return the array starter value
+     */
+    public String getArrayStarter() {
+        return arrayStarter;
+    }
+
+    /**
+     * Returns the array terminator symbol for values.
+     *
+     * @return the array terminator value
+     */
+    public String getArrayTerminator() {
+        return arrayTerminator;
+    }
+
+    /**
+     * Returns the limits of the graph-aware rendering mode.
+     *
+     * @return the limits, or {@code null} if the output is not bounded
+     */
+    public ToStringLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Returns how the arrays and the collections are summarized.
+     *
+     * @return the array summary, or {@code null} if all the elements are
+     * rendered
+     */
+    public ArraySummary getArraySummary() {
+        return arraySummary;
+    }
+
+    FieldNamePrefixes prefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Collects the configuration of a {@link ToStringStyle}, which is
+     * validated when it is built.
+     */
+    public static final class StyleBuilder {
+
+        private boolean useFieldNames = true;
+
+        private String stringStarter = "(";
+
+        private String stringTerminator = ")";
+
+        private String contentStarter = "'";
+
+        private String contentTerminator = "'";
+
+        private String contentSeparator = "=";
+
+        private String arrayStarter = "{";
+
+        private String arrayTerminator = "}";
+
+        private ToStringLimits limits;
+
+        private ArraySummary arraySummary;
+
+        /**
+         * The prefixes of the style this builder started from, reused while
+         * the symbols they are made of are not changed.
+         */
+        private FieldNamePrefixes prefixes;
+
+        private StyleBuilder() {
+        }
+
+        public StyleBuilder useFieldNames(boolean useFieldNames) {
+            this.useFieldNames = useFieldNames;
+            return this;
+        }
+
+        public StyleBuilder stringStarter(String stringStarter) {
+            this.stringStarter = stringStarter;
+            return this;
+        }
+
+        public StyleBuilder stringTerminator(String stringTerminator) {
+            this.stringTerminator = stringTerminator;
+            return this;
+        }
+
+        public StyleBuilder contentStarter(String contentStarter) {
+            if (!Objects.equals(this.contentStarter, contentStarter)) {
+                this.prefixes = null;
+            }
+            this.contentStarter = contentStarter;
+            return this;
+        }
+
+        public StyleBuilder contentTerminator(String contentTerminator) {
+            if (!Objects.equals(this.contentTerminator, contentTerminator)) {
+                this.prefixes = null;
+            }
+            this.contentTerminator = contentTerminator;
+            return this;
+        }
+
+        public StyleBuilder contentSeparator(String contentSeparator) {
+            if (!Objects.equals(this.contentSeparator, contentSeparator)) {
+                this.prefixes = null;
+            }
+            this.contentSeparator = contentSeparator;
+            return this;
+        }
+
+        public StyleBuilder arrayStarter(String arrayStarter) {
+            this.arrayStarter = arrayStarter;
+            return this;
+        }
+
+        public StyleBuilder arrayTerminator(String arrayTerminator) {
+            this.arrayTerminator = arrayTerminator;
+            return this;
+        }
+
+        public StyleBuilder limits(ToStringLimits limits) {
+            this.limits = limits;
+            return this;
+        }
+
+        public StyleBuilder arraySummary(ArraySummary arraySummary) {
+            this.arraySummary = arraySummary;
+            return this;
+        }
+
+        /**
+         * Validates the configuration and builds the style.
+         *
+         * @return the immutable style
+         * @throws IllegalArgumentException if a symbol is missing
+         */
+        public ToStringStyle build() {
+            return new ToStringStyle(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.Asserts;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of {@link AbstractToStringStyleStrategy} instances, used to
+ * recycle the strategies together with their buffers instead of allocating
+ * new ones for every {@code toString}.
+ * <p>The pool is lock-free and is not bound to threads, so it can be shared
+ * by platform and virtual threads alike. When the pool is empty a new
+ * strategy is created, and when it is full a released strategy is dropped.
+ * Buffers which have grown beyond the retained capacity are discarded on
+ * release, so a single huge object does not pin memory forever.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ToStringStylePool {
+
+    /**
+     * Default number of strategies kept by the pool.
+     */
+    public static final int DEFAULT_SIZE = 16;
+
+    /**
+     * Default largest buffer capacity kept by the pool.
+     */
+    public static final int DEFAULT_MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private final Supplier<? extends AbstractToStringStyleStrategy> factory;
+
+    private final AtomicReferenceArray<AbstractToStringStyleStrategy> slots;
+
+    private final int maxRetainedCapacity;
+
+    private ToStringStylePool(Supplier<? extends AbstractToStringStyleStrategy> factory, int size,
+                              int maxRetainedCapacity) {
+        Asserts.notNull(factory, "The factory can not be null");
+        Asserts.isTrue(size > 0, "The pool size must be positive");
+        Asserts.isTrue(maxRetainedCapacity > 0, "The max retained capacity must be positive");
+
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    public static ToStringStylePool of(Supplier<? extends AbstractToStringStyleStrategy> factory) {
+        return new ToStringStylePool(factory, DEFAULT_SIZE, DEFAULT_MAX_RETAINED_CAPACITY);
+    }
+
+    public static ToStringStylePool of(Supplier<? extends AbstractToStringStyleStrategy> factory, int size,
+                                       int maxRetainedCapacity) {
+        return new ToStringStylePool(factory, size, maxRetainedCapacity);
+    }
+
+    /**
+     * Takes a strategy from the pool, or creates a new one if the pool is
+     * empty.
+     *
+     * @return a strategy with an empty buffer
+     */
+    public AbstractToStringStyleStrategy acquire() {
+        int length = slots.length();
+        int start = probe(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            AbstractToStringStyleStrategy strategy = slots.get(index);
+            if (Objects.nonNull(strategy) && slots.compareAndSet(index, strategy, null)) {
+                return strategy;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns a strategy to the pool. The strategy must not be used by the
+     * caller after it has been released.
+     * <p>The strategy is {@link AbstractToStringStyleStrategy#reset(int) reset}
+     * to the style and the class name it was constructed with, so that the
+     * setters called while it was acquired do not leak to the next caller.
+     *
+     * @param strategy the strategy to recycle
+     */
+    public void release(AbstractToStringStyleStrategy strategy) {
+        Asserts.notNull(strategy, "The strategy can not be null");
+
+        strategy.reset(maxRetainedCapacity);
+        int length = slots.length();
+        int start = probe(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (Objects.isNull(slots.get(index)) && slots.compareAndSet(index, null, strategy)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Spreads the threads over the slots to reduce contention.
+     */
+    private static int probe(int length) {
+        return (int) (Thread.currentThread().getId() % length);
+    }
+}
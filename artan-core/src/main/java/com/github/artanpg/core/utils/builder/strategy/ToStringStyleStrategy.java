@@ -285,5 +285,20 @@ public interface ToStringStyleStrategy {
      */
     void appendTerminator();
 
+    /**
+     * Appends to the toString the string terminator and writes the remaining
+     * output to the target that the strategy streams to. The target itself
+     * is neither flushed nor closed.
+     *
+     * @throws UnsupportedOperationException if the strategy does not support
+     *                                       streaming
+     * @throws IllegalStateException         if the strategy supports
+     *                                       streaming but no target has been
+     *                                       set
+     */
+    default void flush() {
+        throw new UnsupportedOperationException("The strategy does not support streaming");
+    }
+
     String toString();
 }
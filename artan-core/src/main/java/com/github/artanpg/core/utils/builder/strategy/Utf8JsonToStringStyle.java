@@ -0,0 +1,839 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.ArrayUtils;
+import com.github.artanpg.core.utils.Asserts;
+import com.github.artanpg.core.utils.CollectionUtils;
+import com.github.artanpg.core.utils.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An implementation of the {@link ToStringStyleStrategy} that produces the
+ * same output as {@link JsonToStringStyle}, encoded as UTF-8 bytes.
+ * <p>Values are encoded straight into a reusable {@code byte[]} without
+ * building an intermediate {@code String}. The output is taken by
+ * {@link #toBytes()}, {@link #writeTo(ByteBuffer)} or
+ * {@link #writeTo(OutputStream)}, after which the instance can be used for
+ * the next {@code toString}:
+ * <pre>{@code
+ * Utf8JsonToStringStyle json = Utf8JsonToStringStyle.of();
+ * ToStringBuilder.costumeStyle(json).append("id", id).append("name", name);
+ * json.writeTo(byteBuffer);
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public class Utf8JsonToStringStyle implements ToStringStyleStrategy {
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static final byte[] LONG_MIN_VALUE = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The encoded output.
+     */
+    private byte[] buffer;
+
+    /**
+     * Number of bytes written to the buffer.
+     */
+    private int position;
+
+    /**
+     * Whether a field separator is owed before the next appended content.
+     */
+    private boolean separatorPending;
+
+    /**
+     * Reusable buffer for the values that are formatted as characters first.
+     */
+    private final StringBuilder scratch;
+
+    /**
+     * The arrays and collections whose elements are being appended, to cut
+     * the ones which contain themselves, or {@code null} before the first
+     * nested container.
+     */
+    private List<Object> openContainers;
+
+    private Utf8JsonToStringStyle(int initialCapacity) {
+        Asserts.isTrue(initialCapacity > 0, "The initial capacity must be positive");
+
+        this.buffer = new byte[initialCapacity];
+        this.scratch = new StringBuilder(32);
+    }
+
+    public static Utf8JsonToStringStyle of() {
+        return new Utf8JsonToStringStyle(AbstractToStringStyleStrategy.DEFAULT_CAPACITY);
+    }
+
+    public static Utf8JsonToStringStyle of(int initialCapacity) {
+        return new Utf8JsonToStringStyle(initialCapacity);
+    }
+
+    @Override
+    public void appendStarter() {
+        position = 0;
+        separatorPending = false;
+        writeByte('{');
+    }
+
+    @Override
+    public void append(String fieldName, boolean value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, boolean[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, byte value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, byte[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, char value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, char[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, short value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, short[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, int value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, int[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, long value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, long[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, float value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, float[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, double value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, double[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, String value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, String[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, Date value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, Date[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public void append(String fieldName, TemporalAccessor[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public <T> void append(String fieldName, Collection<T> values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String fieldName, Enum<?> value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public <T> void append(String fieldName, T value) {
+        appendFieldNames(fieldName);
+        appendValues(value);
+    }
+
+    @Override
+    public <T> void append(String fieldName, T[] values) {
+        appendFieldNames(fieldName);
+        appendValues(values);
+    }
+
+    @Override
+    public void append(String toString) {
+        if (StringUtils.hasText(toString)) {
+            int pos1 = toString.indexOf('{') + 1;
+            int pos2 = toString.lastIndexOf('}');
+            if (pos1 != pos2 && pos1 > 0 && pos2 >= 0) {
+                appendFieldSeparator();
+                writeUtf8(toString, pos1, pos2);
+                separatorPending = true;
+            }
+        }
+    }
+
+    @Override
+    public void appendTerminator() {
+        separatorPending = false;
+        writeByte('}');
+    }
+
+    /**
+     * Completes the {@code toString} and returns a copy of its UTF-8 bytes.
+     *
+     * @return the encoded {@code toString}
+     */
+    public byte[] toBytes() {
+        appendTerminator();
+        byte[] bytes = Arrays.copyOf(buffer, position);
+        position = 0;
+        return bytes;
+    }
+
+    /**
+     * Completes the {@code toString} and puts its UTF-8 bytes into the given
+     * heap or direct buffer.
+     *
+     * @param target the buffer to put the encoded {@code toString} into
+     * @throws BufferOverflowException if the target has not enough remaining
+     *                                 space, in which case the {@code toString}
+     *                                 is kept as it was for another target
+     */
+    public void writeTo(ByteBuffer target) {
+        Asserts.notNull(target, "The target can not be null");
+
+        if (target.remaining() <= position) {
+            throw new BufferOverflowException();
+        }
+        appendTerminator();
+        target.put(buffer, 0, position);
+        position = 0;
+    }
+
+    /**
+     * Completes the {@code toString} and writes its UTF-8 bytes to the given
+     * stream.
+     *
+     * @param target the stream to write the encoded {@code toString} to
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream target) {
+        Asserts.notNull(target, "The target can not be null");
+
+        appendTerminator();
+        try {
+            target.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            position = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        appendTerminator();
+        String toString = new String(buffer, 0, position, StandardCharsets.UTF_8);
+        position = 0;
+        return toString;
+    }
+
+    /**
+     * Appends the field name to the output, which is mandatory in the json
+     * format.
+     *
+     * @param fieldName the field name to add to the output
+     */
+    private void appendFieldNames(String fieldName) {
+        Asserts.hasText(fieldName, "Field names are mandatory when using Utf8JsonToStringStyle");
+        appendFieldSeparator();
+        byte[] prefix = ToStringStyle.JSON.prefixes().bytes(fieldName);
+        if (Objects.nonNull(prefix)) {
+            writeBytes(prefix);
+            return;
+        }
+        writeByte('"');
+        writeText(fieldName);
+        writeByte('"');
+        writeByte(':');
+    }
+
+    private void appendValues(boolean value) {
+        appendFieldSeparator();
+        writeBytes(value ? TRUE : FALSE);
+        separatorPending = true;
+    }
+
+    private void appendValues(char value) {
+        appendFieldSeparator();
+        writeByte('"');
+        writeText(value);
+        writeByte('"');
+        separatorPending = true;
+    }
+
+    private void appendValues(long value) {
+        appendFieldSeparator();
+        writeLong(value);
+        separatorPending = true;
+    }
+
+    private void appendValues(float value) {
+        appendFieldSeparator();
+        scratch.setLength(0);
+        scratch.append(value);
+        writeUtf8(scratch);
+        separatorPending = true;
+    }
+
+    private void appendValues(double value) {
+        appendFieldSeparator();
+        scratch.setLength(0);
+        scratch.append(value);
+        writeUtf8(scratch);
+        separatorPending = true;
+    }
+
+    private void appendValues(String value) {
+        appendFieldSeparator();
+        if (Objects.isNull(value)) {
+            writeBytes(NULL);
+        } else {
+            writeByte('"');
+            writeText(value);
+            writeByte('"');
+        }
+        separatorPending = true;
+    }
+
+    private void appendValues(Date value) {
+        if (Objects.isNull(value)) {
+            appendNullText();
+        } else {
+            scratch.setLength(0);
+            if (TemporalFormats.format(value, scratch)) {
+                appendFormatted();
+            } else {
+                appendValues(value.toString());
+            }
+        }
+    }
+
+    private void appendValues(TemporalAccessor value) {
+        if (Objects.isNull(value)) {
+            appendNullText();
+        } else {
+            scratch.setLength(0);
+            if (TemporalFormats.format(value, scratch)) {
+                appendFormatted();
+            } else {
+                appendValues(value.toString());
+            }
+        }
+    }
+
+    /**
+     * Appends the date or time formatted into the scratch buffer as a json
+     * string.
+     */
+    private void appendFormatted() {
+        appendFieldSeparator();
+        writeByte('"');
+        writeUtf8(scratch);
+        writeByte('"');
+        separatorPending = true;
+    }
+
+    private void appendValues(Enum<?> value) {
+        if (Objects.isNull(value)) {
+            appendNullText();
+        } else {
+            appendValues(value.toString());
+        }
+    }
+
+    private void appendValues(Collection<?> values) {
+        if (isOpen(values)) {
+            appendIdentity(values);
+            return;
+        }
+        appendArrayStarter();
+        if (CollectionUtils.isNotEmpty(values)) {
+            open(values);
+            try {
+                for (Object value : values) {
+                    appendValues(value);
+                }
+            } finally {
+                close();
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private <T> void appendValues(T value) {
+        if (Objects.isNull(value)) {
+            appendNullText();
+        } else if (value instanceof String string) {
+            appendValues(string);
+        } else if (value.getClass().isArray()) {
+            appendNestedArray(value);
+        } else if (value instanceof Collection<?> values) {
+            appendValues(values);
+        } else {
+            appendFieldSeparator();
+            scratch.setLength(0);
+            scratch.append(value);
+            writeUtf8(scratch);
+            separatorPending = true;
+        }
+    }
+
+    /**
+     * Appends an array nested in an array or a collection by its elements,
+     * as {@link JsonToStringStyle} does.
+     */
+    private void appendNestedArray(Object array) {
+        if (array instanceof String[] values) {
+            appendValues(values);
+        } else if (array instanceof Date[] values) {
+            appendValues(values);
+        } else if (array instanceof TemporalAccessor[] values) {
+            appendValues(values);
+        } else if (array instanceof Object[] values) {
+            appendValues(values);
+        } else if (array instanceof int[] values) {
+            appendValues(values);
+        } else if (array instanceof long[] values) {
+            appendValues(values);
+        } else if (array instanceof double[] values) {
+            appendValues(values);
+        } else if (array instanceof byte[] values) {
+            appendValues(values);
+        } else if (array instanceof char[] values) {
+            appendValues(values);
+        } else if (array instanceof boolean[] values) {
+            appendValues(values);
+        } else if (array instanceof float[] values) {
+            appendValues(values);
+        } else {
+            appendValues((short[]) array);
+        }
+    }
+
+    private <T> void appendValues(T[] values) {
+        if (isOpen(values)) {
+            appendIdentity(values);
+            return;
+        }
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            open(values);
+            try {
+                for (Object value : values) {
+                    appendValues(value);
+                }
+            } finally {
+                close();
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(boolean[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (boolean value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(byte[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (byte value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(char[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (char value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(short[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (short value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(int[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (int value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(long[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (long value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(float[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (float value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(double[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (double value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(String[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (String value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(Date[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (Date value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    private void appendValues(TemporalAccessor[] values) {
+        appendArrayStarter();
+        if (ArrayUtils.isNotEmpty(values)) {
+            for (TemporalAccessor value : values) {
+                appendValues(value);
+            }
+        }
+        appendArrayTerminator();
+    }
+
+    /**
+     * Returns whether the elements of the array or the collection are already
+     * being appended, compared by identity.
+     */
+    private boolean isOpen(Object values) {
+        if (Objects.nonNull(openContainers)) {
+            for (Object open : openContainers) {
+                if (open == values) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void open(Object values) {
+        if (Objects.isNull(openContainers)) {
+            openContainers = new ArrayList<>(4);
+        }
+        openContainers.add(values);
+    }
+
+    private void close() {
+        openContainers.remove(openContainers.size() - 1);
+    }
+
+    /**
+     * Appends an array or a collection which contains itself where it
+     * recurs, by its class name and identity hash code as a json string.
+     */
+    private void appendIdentity(Object values) {
+        appendValues(values.getClass().getSimpleName() + '@' + Integer.toHexString(System.identityHashCode(values)));
+    }
+
+    private void appendNullText() {
+        appendFieldSeparator();
+        writeBytes(NULL);
+        separatorPending = true;
+    }
+
+    private void appendArrayStarter() {
+        appendFieldSeparator();
+        writeByte('[');
+    }
+
+    private void appendArrayTerminator() {
+        separatorPending = false;
+        writeByte(']');
+        separatorPending = true;
+    }
+
+    private void appendFieldSeparator() {
+        if (separatorPending) {
+            writeByte(',');
+            separatorPending = false;
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, buffer, position, values.length);
+        position += values.length;
+    }
+
+    /**
+     * Writes the decimal digits of the value directly into the buffer.
+     */
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(LONG_MIN_VALUE);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        int index = position + digits;
+        position = index;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    /**
+     * Writes the text with the json escapes applied. Only the characters that
+     * need escaping break the bulk encoding of the text.
+     */
+    private void writeText(String value) {
+        int length = value.length();
+        int start = 0;
+        int index = JsonEscapes.indexOfEscape(value, 0, length);
+        while (index < length) {
+            writeUtf8(value, start, index);
+            ensureCapacity(6);
+            position += JsonEscapes.escape(value.charAt(index), buffer, position);
+            start = index + 1;
+            index = JsonEscapes.indexOfEscape(value, start, length);
+        }
+        writeUtf8(value, start, length);
+    }
+
+    private void writeText(char value) {
+        if (JsonEscapes.needsEscape(value)) {
+            ensureCapacity(6);
+            position += JsonEscapes.escape(value, buffer, position);
+        } else {
+            writeUtf8(value);
+        }
+    }
+
+    private void writeUtf8(CharSequence value) {
+        writeUtf8(value, 0, value.length());
+    }
+
+    private void writeUtf8(CharSequence value, int start, int end) {
+        ensureCapacity((end - start) * 3);
+        byte[] bytes = buffer;
+        int index = position;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[index++] = (byte) c;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[index++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[index++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bytes[index++] = '?';
+                }
+            } else {
+                index += encode(c, bytes, index);
+            }
+        }
+        position = index;
+    }
+
+    private void writeUtf8(char value) {
+        if (Character.isSurrogate(value)) {
+            writeByte('?');
+        } else {
+            ensureCapacity(3);
+            position += encode(value, buffer, position);
+        }
+    }
+
+    private static int encode(char value, byte[] bytes, int index) {
+        if (value < 0x80) {
+            bytes[index] = (byte) value;
+            return 1;
+        } else if (value < 0x800) {
+            bytes[index] = (byte) (0xC0 | (value >> 6));
+            bytes[index + 1] = (byte) (0x80 | (value & 0x3F));
+            return 2;
+        }
+        bytes[index] = (byte) (0xE0 | (value >> 12));
+        bytes[index + 1] = (byte) (0x80 | ((value >> 6) & 0x3F));
+        bytes[index + 2] = (byte) (0x80 | (value & 0x3F));
+        return 3;
+    }
+
+    private void ensureCapacity(int length) {
+        int required = position + length;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
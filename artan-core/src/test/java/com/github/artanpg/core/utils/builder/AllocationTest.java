@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the static {@code combine} methods and the builders reused
+ * through {@code reset()} allocate nothing, by the bytes allocated by the
+ * current thread over many calls.
+ * <p>The calls are counted against a budget of far less than one byte per
+ * call, which leaves room for the allocations of the measurement itself.
+ */
+class AllocationTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final long BUDGET = 4_096;
+
+    private final long[] longs = {1L, 2L, 3L};
+
+    private final Object[] values = {"a", new int[]{1, 2}};
+
+    private final String name = "name";
+
+    @Test
+    void combinesWithoutAllocating() {
+        assertAllocatesNothing(() -> {
+            int hash = HashCodeBuilder.INITIAL_HASH;
+            hash = HashCodeBuilder.combine(hash, 42);
+            hash = HashCodeBuilder.combine(hash, 7L);
+            hash = HashCodeBuilder.combine(hash, 0.5);
+            hash = HashCodeBuilder.combine(hash, name);
+            hash = HashCodeBuilder.combine(hash, longs);
+            return HashCodeBuilder.combine(hash, values);
+        });
+    }
+
+    @Test
+    void reusesHashCodeBuilderWithoutAllocating() {
+        HashCodeBuilder builder = HashCodeBuilder.of();
+
+        assertAllocatesNothing(() -> builder.reset().append(42).append(7L).append(0.5).append(name).append(longs)
+                .append(values).toHashCode());
+    }
+
+    @Test
+    void reusesEqualsBuilderWithoutAllocating() {
+        EqualsBuilder builder = EqualsBuilder.of();
+        long[] otherLongs = longs.clone();
+
+        assertAllocatesNothing(() -> builder.reset().append(42, 42).append(0.5, 0.5).append(name, "name")
+                .append(longs, otherLongs).build() ? 1 : 0);
+    }
+
+    private static void assertAllocatesNothing(IntSupplier call) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "no com.sun.management.ThreadMXBean");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "thread allocated memory is not measured");
+        long thread = Thread.currentThread().getId();
+
+        int sink = run(call);
+        long before = threads.getThreadAllocatedBytes(thread);
+        sink += run(call);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(allocated < BUDGET, allocated + " bytes allocated by " + ITERATIONS + " calls, sink " + sink);
+    }
+
+    private static int run(IntSupplier call) {
+        int sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call.getAsInt();
+        }
+        return sink;
+    }
+}
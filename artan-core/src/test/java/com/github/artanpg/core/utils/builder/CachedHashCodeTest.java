@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedHashCodeTest {
+
+    @Test
+    void computesTheHashCodeOnce() {
+        Key key = new Key(42, "a");
+
+        assertEquals(HashCodeBuilder.of().append(42).append("a").toHashCode(), key.hashCode());
+        assertEquals(key.hashCode(), key.hashCode());
+        assertEquals(1, key.computations);
+    }
+
+    @Test
+    void remembersAZeroHashCode() {
+        ZeroKey key = new ZeroKey();
+
+        assertEquals(0, key.hashCode());
+        assertEquals(0, key.hashCode());
+        assertEquals(1, key.computations);
+    }
+
+    @Test
+    void hidesTheCacheFromTheReflectiveBuilders() {
+        Key lhs = new Key(42, "a");
+        Key rhs = new Key(42, "a");
+        lhs.hashCode();
+
+        assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs));
+        assertEquals(HashCodeBuilder.reflectionHashCode(lhs), HashCodeBuilder.reflectionHashCode(rhs));
+        assertEquals("Key('id'=42,'name'='a')", ToStringBuilder.reflective(lhs).toString());
+    }
+
+    static final class Key extends CachedHashCode {
+
+        private final int id;
+
+        private final String name;
+
+        private transient int computations;
+
+        Key(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            computations++;
+            return HashCodeBuilder.of().append(id).append(name).toHashCode();
+        }
+    }
+
+    static final class ZeroKey extends CachedHashCode {
+
+        private int computations;
+
+        @Override
+        protected int computeHashCode() {
+            computations++;
+            return 0;
+        }
+    }
+}
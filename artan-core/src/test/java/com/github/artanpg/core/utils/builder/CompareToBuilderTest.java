@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompareToBuilderTest {
+
+    @Test
+    void comparesInAppendOrderUntilTheFirstDifference() {
+        assertTrue(CompareToBuilder.of().append(1, 2).append("b", "a").toComparison() < 0);
+        assertTrue(CompareToBuilder.of().append(1, 1).append("b", "a").toComparison() > 0);
+        assertTrue(CompareToBuilder.of().append((Object) null, "a").toComparison() < 0);
+        assertTrue(CompareToBuilder.of().append(new int[]{1, 2}, new int[]{1}).toComparison() > 0);
+        assertEquals(0, CompareToBuilder.of().append(0.5, 0.5).append(new String[]{"a"}, new String[]{"a"}).build());
+    }
+
+    @Test
+    void comparesCollectionsLexicographically() {
+        assertTrue(CompareToBuilder.of().append(List.of(1), List.of(2)).toComparison() < 0);
+        assertTrue(CompareToBuilder.of().append(List.of(1, 2), List.of(1)).toComparison() > 0);
+        assertTrue(CompareToBuilder.of().append(List.of(), List.of(1)).toComparison() < 0);
+        assertTrue(CompareToBuilder.of().append((List<Integer>) null, List.of()).toComparison() < 0);
+        assertEquals(0, CompareToBuilder.of().append(List.of("a", "b"), new LinkedList<>(List.of("a", "b")))
+                .toComparison());
+        assertTrue(CompareToBuilder.of().append(new TreeSet<>(List.of(3, 1)), new ArrayDeque<>(List.of(1, 2)))
+                .toComparison() > 0);
+        assertTrue(CompareToBuilder.of().append((Object) List.of(List.of(1, 2)), List.of(List.of(1, 3)))
+                .toComparison() < 0);
+    }
+
+    @Test
+    void rejectsValuesWhichAreNotComparable() {
+        ClassCastException exception = assertThrows(ClassCastException.class,
+                () -> CompareToBuilder.of().append(new Object(), new Object()));
+
+        assertTrue(exception.getMessage().contains("java.lang.Object is not comparable"), exception::getMessage);
+    }
+
+    @Test
+    void comparesTheGivenFields() {
+        Comparator<Version> comparator = CompareToBuilder.comparator(Version.class, "major", "tags", "minor");
+
+        assertTrue(comparator.compare(new Version(1, 9, List.of()), new Version(2, 0, List.of())) < 0);
+        assertTrue(comparator.compare(new Version(1, 0, List.of("b")), new Version(1, 9, List.of("a"))) > 0);
+        assertTrue(comparator.compare(new Version(1, 0, List.of("a")), new Version(1, 9, List.of("a"))) < 0);
+        assertTrue(CompareToBuilder.of().append(new Version(1, 0, List.of()), new Version(1, 1, List.of()), comparator)
+                .toComparison() < 0);
+        assertThrows(IllegalArgumentException.class, () -> CompareToBuilder.comparator(Version.class, "owner"));
+        assertThrows(IllegalArgumentException.class, () -> CompareToBuilder.comparator(Version.class, "patch"));
+    }
+
+    static final class Version {
+
+        private final int major;
+
+        private final int minor;
+
+        private final List<String> tags;
+
+        private final Object owner = new Object();
+
+        Version(int major, int minor, List<String> tags) {
+            this.major = major;
+            this.minor = minor;
+            this.tags = tags;
+        }
+    }
+}
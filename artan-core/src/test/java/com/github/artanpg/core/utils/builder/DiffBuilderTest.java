@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.builder.strategy.JsonToStringStyle;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiffBuilderTest {
+
+    @Test
+    void recordsOnlyTheDifferingFields() {
+        DiffResult diff = DiffBuilder.of(Order.class)
+                .append("id", 7L, 7L)
+                .append("total", 10.0, 12.0)
+                .append("status", "NEW", "PAID")
+                .append("lines", new int[]{1}, new int[]{1})
+                .build();
+
+        assertEquals(2, diff.getNumberOfDiffs());
+        assertEquals("total", diff.getFieldName(0));
+        assertEquals(10.0, diff.getLeft(0));
+        assertEquals(12.0, diff.getRight(0));
+        assertEquals("status", diff.getFieldName(1));
+        assertEquals("NEW", diff.getLeft(1));
+        assertEquals("PAID", diff.getRight(1));
+        assertEquals("Order('total'=10.0,'status'='NEW') differs from Order('total'=12.0,'status'='PAID')",
+                diff.toString());
+    }
+
+    @Test
+    void isEmptyWhenNothingDiffers() {
+        DiffResult diff = DiffBuilder.of().append("id", 1, 1).append("name", (Object) null, null).build();
+
+        assertTrue(diff.isEmpty());
+        assertEquals("", diff.toString());
+        assertEquals("", diff.toString(JsonToStringStyle::of));
+    }
+
+    @Test
+    void keepsTheBitsOfPrimitiveValues() {
+        DiffResult diff = DiffBuilder.of()
+                .append("nan", Double.NaN, Double.NaN)
+                .append("zero", 0.0f, -0.0f)
+                .append("flag", true, false)
+                .append("grade", 'A', 'B')
+                .append("count", (short) -1, (short) 1)
+                .append("big", Long.MIN_VALUE, Long.MAX_VALUE)
+                .build();
+
+        assertEquals(5, diff.getNumberOfDiffs());
+        assertEquals(0.0f, diff.getLeft(0));
+        assertEquals(-0.0f, diff.getRight(0));
+        assertEquals(true, diff.getLeft(1));
+        assertEquals('B', diff.getRight(2));
+        assertEquals((short) -1, diff.getLeft(3));
+        assertEquals(Long.MIN_VALUE, diff.getLeft(4));
+        assertEquals("{\"zero\":0.0,\"flag\":true,\"grade\":\"A\",\"count\":-1,\"big\":-9223372036854775808}"
+                + " differs from {\"zero\":-0.0,\"flag\":false,\"grade\":\"B\",\"count\":1,"
+                + "\"big\":9223372036854775807}", diff.toString());
+    }
+
+    @Test
+    void comparesArraysAndCollectionsByTheirElements() {
+        Set<String> lhsTags = new LinkedHashSet<>(List.of("a", "b"));
+        Set<String> rhsTags = new LinkedHashSet<>(List.of("b", "a"));
+        Shipment lhs = new Shipment(new int[][]{{1}, {2}}, List.of(new long[]{3}), lhsTags, "x");
+        Shipment rhs = new Shipment(new int[][]{{1}, {2}}, List.of(new long[]{3}), rhsTags, "y");
+
+        DiffResult diff = DiffBuilder.reflectionDiff(lhs, rhs);
+
+        assertEquals(1, diff.getNumberOfDiffs());
+        assertEquals("note", diff.getFieldName(0));
+        assertTrue(DiffBuilder.reflectionDiff(lhs, lhs).isEmpty());
+        assertArrayEquals(new Object[]{new int[]{2}},
+                (Object[]) DiffBuilder.of().append("boxes", new int[][]{{2}}, new int[][]{{3}}).build().getLeft(0));
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() {
+        DiffBuilder builder = DiffBuilder.of();
+        for (int i = 0; i < 10; i++) {
+            builder.append("field" + i, i, i + 1);
+        }
+        DiffResult diff = builder.build();
+
+        assertEquals(10, diff.getNumberOfDiffs());
+        assertEquals("field9", diff.getFieldName(9));
+        assertEquals(9, diff.getLeft(9));
+        assertEquals(10, diff.getRight(9));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> DiffBuilder.reflectionDiff(new Order(), "order"));
+        assertThrows(IllegalArgumentException.class, () -> DiffBuilder.reflectionDiff(null, new Order()));
+        assertThrows(IllegalArgumentException.class, () -> DiffBuilder.of().append(null, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> DiffBuilder.of(null));
+    }
+
+    @Test
+    void rejectsClassesWithUnreadableFields() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> DiffBuilder.reflectionDiff(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2)));
+
+        assertTrue(e.getMessage().contains("java.time.LocalDate.year"));
+    }
+
+    static final class Order {
+    }
+
+    static final class Shipment {
+
+        private final int[][] boxes;
+
+        private final List<long[]> weights;
+
+        private final Set<String> tags;
+
+        private final String note;
+
+        Shipment(int[][] boxes, List<long[]> weights, Set<String> tags, String note) {
+            this.boxes = boxes;
+            this.weights = weights;
+            this.tags = tags;
+            this.note = note;
+        }
+    }
+}
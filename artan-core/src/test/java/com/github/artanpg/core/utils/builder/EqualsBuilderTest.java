@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EqualsBuilderTest {
+
+    @Test
+    void comparesCollectionsByElements() {
+        assertTrue(EqualsBuilder.of().append(List.of(1, 2), new LinkedList<>(List.of(1, 2))).build());
+        assertFalse(EqualsBuilder.of().append(List.of(1, 2), List.of(2, 1)).build());
+        assertTrue(EqualsBuilder.of().append(Set.of(1, 2), new HashSet<>(List.of(2, 1))).build());
+        assertFalse(EqualsBuilder.of().append(Set.of(1), List.of(1)).build());
+        assertTrue(EqualsBuilder.of().append(List.of(new int[]{1}), new ArrayList<>(List.of(new int[]{1}))).build());
+    }
+
+    @Test
+    void comparesAllFieldsByReflection() {
+        Account lhs = new Account(1, "Ali", new long[]{10}, List.of("a"));
+
+        assertTrue(EqualsBuilder.reflectionEquals(lhs, new Account(1, "Ali", new long[]{10}, List.of("a"))));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, new Account(2, "Ali", new long[]{10}, List.of("a"))));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, new Account(1, "Reza", new long[]{10}, List.of("a"))));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, new Account(1, "Ali", new long[]{11}, List.of("a"))));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, new Account(1, "Ali", new long[]{10}, null)));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, "Ali"));
+        assertFalse(EqualsBuilder.reflectionEquals(lhs, null));
+    }
+
+    @Test
+    void comparesClassesWithUnreadableFieldsByTheirOwnEquals() {
+        assertTrue(EqualsBuilder.reflectionEquals(Integer.valueOf(1000), Integer.valueOf(1000)));
+        assertFalse(EqualsBuilder.reflectionEquals(Integer.valueOf(1), Integer.valueOf(2)));
+        assertTrue(EqualsBuilder.reflectionEquals(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1)));
+        assertFalse(EqualsBuilder.reflectionEquals(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2)));
+    }
+
+    @Test
+    void comparesPrimitivesBeforeSizesAndSizesBeforeElements() {
+        CountingList lhsTags = new CountingList(3);
+        CountingList rhsTags = new CountingList(3);
+
+        assertFalse(EqualsBuilder.reflectionEquals(new Tagged(1, lhsTags), new Tagged(2, rhsTags)));
+        assertEquals(0, lhsTags.sizeCalls + rhsTags.sizeCalls);
+        assertEquals(0, lhsTags.getCalls + rhsTags.getCalls);
+
+        assertFalse(EqualsBuilder.reflectionEquals(new Tagged(1, lhsTags), new Tagged(1, new CountingList(4))));
+        assertEquals(0, lhsTags.getCalls);
+
+        assertTrue(EqualsBuilder.reflectionEquals(new Tagged(1, lhsTags), new Tagged(1, rhsTags)));
+        assertEquals(3, lhsTags.getCalls);
+    }
+
+    @Test
+    void reusesBuilderAfterReset() {
+        EqualsBuilder builder = EqualsBuilder.of().append(1, 2);
+
+        assertFalse(builder.build());
+        assertTrue(builder.reset().append(1, 1).build());
+    }
+
+    static final class Account {
+
+        private final List<String> tags;
+
+        private final long[] balances;
+
+        private final String name;
+
+        private final int id;
+
+        Account(int id, String name, long[] balances, List<String> tags) {
+            this.id = id;
+            this.name = name;
+            this.balances = balances;
+            this.tags = tags;
+        }
+    }
+
+    static final class Tagged {
+
+        private final List<Integer> tags;
+
+        private final int id;
+
+        Tagged(int id, List<Integer> tags) {
+            this.id = id;
+            this.tags = tags;
+        }
+    }
+
+    static final class CountingList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int size;
+
+        private int sizeCalls;
+
+        private int getCalls;
+
+        CountingList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            getCalls++;
+            return index;
+        }
+
+        @Override
+        public int size() {
+            sizeCalls++;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.builder.strategy.ToStringLimits;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphStyleTest {
+
+    @Test
+    void cutsCycleBackToTheRootAtOnce() {
+        Node first = new Node("a", true);
+        Node second = new Node("b", true);
+        first.next = second;
+        second.next = first;
+
+        assertEquals("Node('name'='a','next'=Node('name'='b','next'='Node@" + identity(first) + "'))",
+                first.toString());
+    }
+
+    @Test
+    void rendersTheRootOnceMoreWhenOnlyTheClassIsKnown() {
+        Node first = new Node("a", false);
+        Node second = new Node("b", false);
+        first.next = second;
+        second.next = first;
+
+        assertEquals("Node('name'='a','next'=Node('name'='b','next'=Node('name'='a','next'='Node@"
+                + identity(second) + "')))", first.toString());
+    }
+
+    @Test
+    void rootDoesNotCountTowardsTheMaxDepth() {
+        Node first = new Node("a", true);
+        Node second = new Node("b", true);
+        Node third = new Node("c", true);
+        first.next = second;
+        second.next = third;
+        first.limits = ToStringLimits.of(1, 8, 1024);
+
+        assertEquals("Node('name'='a','next'=Node('name'='b','next'='Node@" + identity(third) + "'))",
+                first.toString());
+    }
+
+    @Test
+    void boundsNestedCollectionsByTheirElements() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(i);
+        }
+        values.add(values);
+        Node node = new Node("a", true);
+        node.next = values;
+        node.limits = ToStringLimits.of(3, 4, 1024);
+
+        String toString = node.toString();
+
+        assertTrue(toString.startsWith("Node('name'='a','next'={0,1,"), toString);
+        assertTrue(toString.length() < 100, toString);
+    }
+
+    private static String identity(Object value) {
+        return Integer.toHexString(System.identityHashCode(value));
+    }
+
+    static final class Node {
+
+        private final String name;
+
+        private final boolean rooted;
+
+        private Object next;
+
+        private ToStringLimits limits = ToStringLimits.defaults();
+
+        Node(String name, boolean rooted) {
+            this.name = name;
+            this.rooted = rooted;
+        }
+
+        @Override
+        public String toString() {
+            ToStringBuilder builder = rooted
+                    ? ToStringBuilder.graphStyleOf(this, limits)
+                    : ToStringBuilder.graphStyle(Node.class, limits);
+            return builder.append("name", name).append("next", next).toString();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashCodeBuilderTest {
+
+    @Test
+    void hashesCollectionsLikeLists() {
+        List<String> values = List.of("a", "b", "c");
+
+        assertEquals(17 * 37 + values.hashCode(), HashCodeBuilder.of().append(values).toHashCode());
+        assertEquals(17 * 37 + values.hashCode(), HashCodeBuilder.of().append(new LinkedList<>(values)).toHashCode());
+        assertEquals(17 * 37 + Set.of("a", "b").hashCode(), HashCodeBuilder.of().append(Set.of("a", "b")).toHashCode());
+    }
+
+    @Test
+    void hashesSetsWhateverTheirIterationOrder() {
+        Set<Object> lhs = new LinkedHashSet<>(List.of("a", 1, 2.5));
+        Set<Object> rhs = new LinkedHashSet<>(List.of(2.5, 1, "a"));
+
+        assertTrue(EqualsBuilder.of().append(lhs, rhs).build());
+        assertEquals(HashCodeBuilder.of().append(lhs).toHashCode(), HashCodeBuilder.of().append(rhs).toHashCode());
+        assertEquals(HashCodeBuilder.of(HashMode.MIX64).append(lhs).toLongHashCode(),
+                HashCodeBuilder.of(HashMode.MIX64).append(rhs).toLongHashCode());
+        assertNotEquals(HashCodeBuilder.of(HashMode.MIX64).append(List.copyOf(lhs)).toLongHashCode(),
+                HashCodeBuilder.of(HashMode.MIX64).append(List.copyOf(rhs)).toLongHashCode());
+    }
+
+    @Test
+    void readsRandomAccessListsByIndex() {
+        IndexedList values = new IndexedList(3);
+
+        assertEquals(17 * 37 + List.of(0, 1, 2).hashCode(), HashCodeBuilder.of().append(values).toHashCode());
+        assertEquals(HashCodeBuilder.of(HashMode.MIX64).append(List.of(0, 1, 2)).toLongHashCode(),
+                HashCodeBuilder.of(HashMode.MIX64).append(values).toLongHashCode());
+    }
+
+    @Test
+    void hashesNestedArraysDeeply() {
+        Object[] lhs = {new int[]{1, 2}, new String[]{"a"}};
+        Object[] rhs = {new int[]{1, 2}, new String[]{"a"}};
+
+        assertEquals(HashCodeBuilder.of().append(lhs).toHashCode(), HashCodeBuilder.of().append(rhs).toHashCode());
+        assertEquals(17 * 37 + Arrays.deepHashCode(lhs), HashCodeBuilder.of().append(lhs).toHashCode());
+        assertEquals(HashCodeBuilder.of(HashMode.MIX64).append(lhs).toLongHashCode(),
+                HashCodeBuilder.of(HashMode.MIX64).append(rhs).toLongHashCode());
+    }
+
+    @Test
+    void hashesArraysInCollectionsDeeply() {
+        List<int[]> lhs = List.of(new int[]{1, 2}, new int[]{3});
+        List<int[]> rhs = new ArrayList<>(List.of(new int[]{1, 2}, new int[]{3}));
+
+        assertTrue(EqualsBuilder.of().append(lhs, rhs).build());
+        assertEquals(HashCodeBuilder.of().append(lhs).toHashCode(), HashCodeBuilder.of().append(rhs).toHashCode());
+        assertEquals(HashCodeBuilder.of(HashMode.MIX64).append(lhs).toHashCode(),
+                HashCodeBuilder.of(HashMode.MIX64).append(rhs).toHashCode());
+    }
+
+    @Test
+    void mix64SpreadsCompositeKeys() {
+        Set<Integer> classic = new HashSet<>();
+        Set<Integer> mixed = new HashSet<>();
+        int[] buckets = new int[1024];
+        for (int x = 0; x < 1000; x++) {
+            for (int y = 0; y < 100; y++) {
+                int hash = HashCodeBuilder.of(HashMode.MIX64).append(x).append(y).toHashCode();
+                classic.add(HashCodeBuilder.of().append(x).append(y).toHashCode());
+                mixed.add(hash);
+                buckets[hash & (buckets.length - 1)]++;
+            }
+        }
+
+        assertEquals(37_063, classic.size());
+        assertTrue(mixed.size() >= 99_990, () -> mixed.size() + " distinct hash codes");
+        assertTrue(Arrays.stream(buckets).max().orElseThrow() < 150, () -> Arrays.toString(buckets));
+        assertTrue(Arrays.stream(buckets).min().orElseThrow() > 50, () -> Arrays.toString(buckets));
+    }
+
+    @Test
+    void reflectionHashCodeIsConsistentWithReflectionEquals() {
+        Grid lhs = new Grid(new int[][]{{1, 2}, {3}}, new Object[][]{{"a", 1}}, List.of(new int[]{4}), 0.5);
+        Grid rhs = new Grid(new int[][]{{1, 2}, {3}}, new Object[][]{{"a", 1}}, List.of(new int[]{4}), 0.5);
+
+        assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs));
+        assertEquals(HashCodeBuilder.reflectionHashCode(lhs), HashCodeBuilder.reflectionHashCode(rhs));
+        assertNotEquals(HashCodeBuilder.reflectionHashCode(lhs),
+                HashCodeBuilder.reflectionHashCode(new Grid(new int[][]{{1}}, null, List.of(), 0.5)));
+    }
+
+    @Test
+    void hashesClassesWithUnreadableFieldsByTheirOwnHashCode() {
+        LocalDate date = LocalDate.of(2024, 1, 1);
+
+        assertEquals(HashCodeBuilder.of().append(date.hashCode()).toHashCode(),
+                HashCodeBuilder.reflectionHashCode(date));
+        assertNotEquals(HashCodeBuilder.reflectionHashCode(date),
+                HashCodeBuilder.reflectionHashCode(LocalDate.of(2024, 1, 2)));
+        assertNotEquals(HashCodeBuilder.reflectionHashCode(1), HashCodeBuilder.reflectionHashCode(2));
+    }
+
+    @Test
+    void combinesLikeClassicBuilder() {
+        Object[] values = {new long[]{1L}, "a"};
+        int hash = HashCodeBuilder.INITIAL_HASH;
+        hash = HashCodeBuilder.combine(hash, 42);
+        hash = HashCodeBuilder.combine(hash, "name");
+        hash = HashCodeBuilder.combine(hash, new double[]{1.5, 2.5});
+        hash = HashCodeBuilder.combine(hash, values);
+
+        assertEquals(HashCodeBuilder.of().append(42).append("name").append(new double[]{1.5, 2.5}).append(values)
+                .toHashCode(), hash);
+    }
+
+    @Test
+    void reusesBuilderAfterReset() {
+        HashCodeBuilder builder = HashCodeBuilder.of().append(1).append("a");
+        int first = builder.toHashCode();
+
+        assertEquals(first, builder.reset().append(1).append("a").toHashCode());
+    }
+
+    static final class Grid {
+
+        private final int[][] cells;
+
+        private final Object[][] labels;
+
+        private final List<int[]> rows;
+
+        private final double ratio;
+
+        Grid(int[][] cells, Object[][] labels, List<int[]> rows, double ratio) {
+            this.cells = cells;
+            this.labels = labels;
+            this.rows = rows;
+            this.ratio = ratio;
+        }
+    }
+
+    static final class IndexedList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int size;
+
+        IndexedList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new UnsupportedOperationException("iterator");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class HashesTest {
+
+    private static final int MAX_LENGTH = 100;
+
+    @Test
+    void polynomialMatchesArraysHashCode() {
+        Random random = new Random(42);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            Samples samples = new Samples(random, length);
+
+            assertEquals(Arrays.hashCode(samples.booleans), Hashes.polynomial(samples.booleans));
+            assertEquals(Arrays.hashCode(samples.bytes), Hashes.polynomial(samples.bytes));
+            assertEquals(Arrays.hashCode(samples.chars), Hashes.polynomial(samples.chars));
+            assertEquals(Arrays.hashCode(samples.shorts), Hashes.polynomial(samples.shorts));
+            assertEquals(Arrays.hashCode(samples.ints), Hashes.polynomial(samples.ints));
+            assertEquals(Arrays.hashCode(samples.longs), Hashes.polynomial(samples.longs));
+            assertEquals(Arrays.hashCode(samples.floats), Hashes.polynomial(samples.floats));
+            assertEquals(Arrays.hashCode(samples.doubles), Hashes.polynomial(samples.doubles));
+        }
+    }
+
+    @Test
+    void vectorPolynomialMatchesArraysHashCode() {
+        PolynomialHashes vector = Hashes.VECTOR_HASHES;
+        assumeTrue(Objects.nonNull(vector), "no vector hashes");
+        Random random = new Random(7);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            Samples samples = new Samples(random, length);
+
+            assertEquals(Arrays.hashCode(samples.booleans), vector.polynomial(samples.booleans));
+            assertEquals(Arrays.hashCode(samples.bytes), vector.polynomial(samples.bytes));
+            assertEquals(Arrays.hashCode(samples.chars), vector.polynomial(samples.chars));
+            assertEquals(Arrays.hashCode(samples.shorts), vector.polynomial(samples.shorts));
+            assertEquals(Arrays.hashCode(samples.ints), vector.polynomial(samples.ints));
+            assertEquals(Arrays.hashCode(samples.longs), vector.polynomial(samples.longs));
+            assertEquals(Arrays.hashCode(samples.floats), vector.polynomial(samples.floats));
+            assertEquals(Arrays.hashCode(samples.doubles), vector.polynomial(samples.doubles));
+        }
+    }
+
+    /**
+     * Random arrays of one length, with every fifth floating-point element
+     * a {@code NaN} whose bits are not those of the canonical {@code NaN}.
+     */
+    private static final class Samples {
+
+        private final boolean[] booleans;
+
+        private final byte[] bytes;
+
+        private final char[] chars;
+
+        private final short[] shorts;
+
+        private final int[] ints;
+
+        private final long[] longs;
+
+        private final float[] floats;
+
+        private final double[] doubles;
+
+        Samples(Random random, int length) {
+            booleans = new boolean[length];
+            bytes = new byte[length];
+            chars = new char[length];
+            shorts = new short[length];
+            ints = new int[length];
+            longs = new long[length];
+            floats = new float[length];
+            doubles = new double[length];
+            random.nextBytes(bytes);
+            for (int i = 0; i < length; i++) {
+                booleans[i] = random.nextBoolean();
+                chars[i] = (char) random.nextInt();
+                shorts[i] = (short) random.nextInt();
+                ints[i] = random.nextInt();
+                longs[i] = random.nextLong();
+                floats[i] = i % 5 == 4 ? Float.intBitsToFloat(0x7FC00001 + i) : random.nextFloat() - 0.5f;
+                doubles[i] = i % 5 == 4 ? Double.longBitsToDouble(0x7FF8000000000001L + i) : random.nextGaussian();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LazyToStringBuilderTest {
+
+    @Test
+    void rendersLikeToStringBuilder() {
+        LazyToStringBuilder lazy = LazyToStringBuilder.defaultStyle(Order.class);
+        ToStringBuilder eager = ToStringBuilder.defaultStyle(Order.class);
+        for (int i = 0; i < 20; i++) {
+            lazy.append("id" + i, i).append("name" + i, "n" + i).append("total" + i, i * 1.5);
+            eager.append("id" + i, i).append("name" + i, "n" + i).append("total" + i, i * 1.5);
+        }
+        lazy.append("items", List.of(1, 2)).append("codes", new long[]{3L}).append("flag", true);
+        eager.append("items", List.of(1, 2)).append("codes", new long[]{3L}).append("flag", true);
+
+        assertEquals(eager.toString(), lazy.toString());
+    }
+
+    @Test
+    void rendersOnlyReferencesOrOnlyPrimitives() {
+        assertEquals("{\"a\":\"x\",\"b\":null}", LazyToStringBuilder.jsonStyle()
+                .append("a", "x").append("b", (Object) null).toString());
+        assertEquals("{\"a\":1,\"b\":-2.5,\"c\":\"z\"}", LazyToStringBuilder.jsonStyle()
+                .append("a", 1L).append("b", -2.5f).append("c", 'z').toString());
+        assertEquals("{}", LazyToStringBuilder.jsonStyle().toString());
+    }
+
+    @Test
+    void rendersOnceUntilAnotherFieldIsAppended() {
+        LazyToStringBuilder builder = LazyToStringBuilder.jsonStyle().append("a", 1);
+        String first = builder.toString();
+
+        assertSame(first, builder.get());
+        assertEquals("{\"a\":1,\"b\":2}", builder.append("b", 2).build());
+    }
+
+    static final class Order {
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ToStringBuilderTest {
+
+    @Test
+    void separatesFieldsAndElements() {
+        String toString = ToStringBuilder.defaultStyle(Person.class)
+                .append("age", 30)
+                .append("scores", new int[]{1, 2})
+                .append("tags", List.of())
+                .append("aliases", new String[0])
+                .append("name", "Ali")
+                .toString();
+
+        assertEquals("Person('age'=30,'scores'={1,2},'tags'={},'aliases'={},'name'='Ali')", toString);
+    }
+
+    @Test
+    void appendsNestedArraysByTheirElements() {
+        Object[] cyclic = {1, null};
+        cyclic[1] = new Object[]{cyclic};
+        String toString = ToStringBuilder.defaultStyle(Person.class)
+                .append("matrix", new int[][]{{1, 2}, {3}})
+                .append("values", new Object[]{new String[]{"a"}, List.of(new long[]{4L})})
+                .append("cyclic", cyclic)
+                .toString();
+
+        String identity = Integer.toHexString(System.identityHashCode(cyclic));
+        assertEquals("Person('matrix'={{1,2},{3}},'values'={{'a'},{{4}}},'cyclic'={1,{'Object[]@" + identity + "'}})",
+                toString);
+    }
+
+    @Test
+    void buildsEmptyToString() {
+        assertEquals("Person()", ToStringBuilder.defaultStyle(Person.class).toString());
+        assertEquals("{}", ToStringBuilder.jsonStyle().toString());
+    }
+
+    @Test
+    void separatesSuperFromFollowingField() {
+        String toString = ToStringBuilder.defaultStyle(Person.class)
+                .appendSuper("Base('id'=1)")
+                .append("name", "Ali")
+                .toString();
+
+        assertEquals("Person('id'=1,'name'='Ali')", toString);
+    }
+
+    @Test
+    void separatesEveryElementOfLargeArrays() {
+        int[] values = new int[200_000];
+        String toString = ToStringBuilder.jsonStyle().append("values", values).toString();
+
+        assertEquals(12 + 2 * values.length, toString.length());
+    }
+
+    @Test
+    void streamsToTarget() {
+        StringWriter target = new StringWriter();
+        ToStringBuilder builder = ToStringBuilder.jsonStyle(target).append("values", new int[5000]);
+        builder.flush();
+
+        assertEquals(12 + 2 * 5000, target.toString().length());
+        assertEquals("{\"values\":[0,0,", target.toString().substring(0, 15));
+    }
+
+    @Test
+    void returnsEmptyToStringWhenStreaming() {
+        StringBuilder target = new StringBuilder();
+        String toString = ToStringBuilder.defaultStyle(Person.class, target).append("name", "Ali").toString();
+
+        assertEquals("", toString);
+        assertEquals("Person('name'='Ali')", target.toString());
+    }
+
+    @Test
+    void rejectsFlushWithoutTarget() {
+        assertThrows(IllegalStateException.class, () -> ToStringBuilder.jsonStyle().flush());
+    }
+
+    @Test
+    void appendsFieldsOfClassAndSuperclasses() {
+        Employee employee = new Employee(7, "Ali", new double[]{1.5}, Level.SENIOR);
+
+        assertEquals("Employee('id'=7,'name'='Ali','rates'={1.5},'level'='SENIOR','manager'=null)",
+                ToStringBuilder.reflective(employee).toString());
+    }
+
+    @Test
+    void appendsClassesWithUnreadableFieldsByTheirOwnToString() {
+        assertEquals("LocalDate(2024-01-02)", ToStringBuilder.reflective(LocalDate.of(2024, 1, 2)).toString());
+        assertEquals("Integer(42)", ToStringBuilder.reflective(42).toString());
+    }
+
+    static final class Person {
+    }
+
+    enum Level {
+        JUNIOR, SENIOR
+    }
+
+    static class Entity {
+
+        private static final int VERSION = 1;
+
+        private final long id;
+
+        private transient int cachedHash;
+
+        Entity(long id) {
+            this.id = id;
+        }
+    }
+
+    static final class Employee extends Entity {
+
+        private final String name;
+
+        private final double[] rates;
+
+        private final Level level;
+
+        private Employee manager;
+
+        Employee(long id, String name, double[] rates, Level level) {
+            super(id);
+            this.name = name;
+            this.rates = rates;
+            this.level = level;
+        }
+    }
+}
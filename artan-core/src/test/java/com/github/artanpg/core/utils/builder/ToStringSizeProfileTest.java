@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import com.github.artanpg.core.utils.builder.strategy.AbstractToStringStyleStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ToStringSizeProfileTest {
+
+    @Test
+    void returnsOneProfilePerClass() {
+        assertSame(ToStringSizeProfile.of(Small.class), ToStringSizeProfile.of(Small.class));
+    }
+
+    @Test
+    void keepsDefaultCapacityUntilFirstDecay() {
+        ToStringSizeProfile profile = ToStringSizeProfile.of(Small.class);
+        for (int i = 0; i < 255; i++) {
+            profile.record(40);
+        }
+
+        assertEquals(AbstractToStringStyleStrategy.DEFAULT_CAPACITY, profile.getCapacity());
+    }
+
+    @Test
+    void learnsNinetiethPercentile() {
+        ToStringSizeProfile profile = ToStringSizeProfile.of(Mixed.class);
+        for (int i = 0; i < 256; i++) {
+            profile.record(i % 20 == 0 ? 5000 : 100 + i % 3);
+        }
+
+        assertEquals(102, profile.getCapacity());
+    }
+
+    @Test
+    void followsRecentLengths() {
+        ToStringSizeProfile profile = ToStringSizeProfile.of(Growing.class);
+        for (int i = 0; i < 256; i++) {
+            profile.record(50);
+        }
+        for (int i = 0; i < 4 * 256; i++) {
+            profile.record(3000);
+        }
+
+        assertEquals(3000, profile.getCapacity());
+    }
+
+    static final class Small {
+    }
+
+    static final class Mixed {
+    }
+
+    static final class Growing {
+    }
+}
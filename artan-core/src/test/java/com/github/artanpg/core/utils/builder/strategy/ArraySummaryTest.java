@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArraySummaryTest {
+
+    private static final List<Integer> VALUES = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    @Test
+    void summarizesArraysByHeadAndTail() {
+        String toString = summarized(ArraySummary.of(2, 2))
+                .append("ints", new int[]{0, 1, 2, 3, 4, 5})
+                .append("strings", new String[]{"a", "b", "c", "d", "e"})
+                .append("objects", new Object[]{1, 2, 3})
+                .append("none", (Object[]) null)
+                .toString();
+
+        assertEquals("Summary('ints'={0,1,'...2 more',4,5},'strings'={'a','b','...1 more','d','e'},"
+                + "'objects'={1,2,3},'none'={})", toString);
+    }
+
+    @Test
+    void readsTheTailOfIndexedListsAndDeques() {
+        String toString = summarized(ArraySummary.of(2, 2))
+                .append("list", new ArrayList<>(VALUES))
+                .append("deque", new ArrayDeque<>(VALUES))
+                .toString();
+
+        assertEquals("Summary('list'={0,1,'...6 more',8,9},'deque'={0,1,'...6 more',8,9})", toString);
+    }
+
+    @Test
+    void iteratesOtherCollectionsOnlyUpToTheHead() {
+        CountingCollection values = new CountingCollection(1_000_000);
+
+        String toString = summarized(ArraySummary.of(2, 2)).append("values", values).toString();
+
+        assertEquals("Summary('values'={0,1,'...999998 more'})", toString);
+        assertEquals(2, values.visited);
+    }
+
+    @Test
+    void appendsOnlyTheLength() {
+        String toString = summarized(ArraySummary.lengthOnly())
+                .append("strings", new String[]{"a"})
+                .append("objects", new Object[]{1, 2})
+                .append("list", new ArrayList<>(VALUES))
+                .toString();
+
+        assertEquals("Summary('strings'='String[1]','objects'='Object[2]','list'='ArrayList[10]')", toString);
+    }
+
+    private static ToStringBuilder summarized(ArraySummary arraySummary) {
+        DefaultToStringStyle style = DefaultToStringStyle.of(Summary.class);
+        style.setArraySummary(arraySummary);
+        return ToStringBuilder.costumeStyle(style);
+    }
+
+    static final class Summary {
+    }
+
+    static final class CountingCollection extends AbstractCollection<Integer> {
+
+        private final int size;
+
+        private int visited;
+
+        CountingCollection(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<>() {
+
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Integer next() {
+                    visited++;
+                    return next++;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
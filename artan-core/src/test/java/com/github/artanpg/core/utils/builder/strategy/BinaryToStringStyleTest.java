@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryToStringStyleTest {
+
+    private static final UnaryOperator<ToStringBuilder> FIELDS = builder -> builder
+            .append("flag", true)
+            .append("bytes", new byte[]{1, -1})
+            .append("grade", 'A')
+            .append("count", (short) -3)
+            .append("id", Integer.MIN_VALUE)
+            .append("big", Long.MAX_VALUE)
+            .append("rate", 0.5f)
+            .append("amount", -12.25)
+            .append("ints", new int[]{1, -2})
+            .append("name", "\u00e9\"")
+            .append("names", new String[]{"a", null})
+            .append("date", new Date(0))
+            .append("day", LocalDate.of(2024, 1, 2))
+            .append("list", List.of(1, "b"))
+            .append("none", (Object) null)
+            .append("noInts", (int[]) null);
+
+    @Test
+    void decodesIntoAnyStrategyLikeAppendingDirectly() {
+        BinaryToStringStyle binary = BinaryToStringStyle.of(8);
+        FIELDS.apply(ToStringBuilder.costumeStyle(binary));
+        byte[] record = binary.toBytes();
+
+        assertEquals(FIELDS.apply(ToStringBuilder.jsonStyle()).toString(), BinaryToStringDecoder.toJson(record));
+        assertEquals(FIELDS.apply(ToStringBuilder.defaultStyle(Record.class)).toString(),
+                BinaryToStringDecoder.decode(record, DefaultToStringStyle.of(Record.class)));
+    }
+
+    @Test
+    void readsTheRecordAnyNumberOfTimes() {
+        BinaryToStringStyle binary = BinaryToStringStyle.of();
+        ToStringBuilder.costumeStyle(binary).append("id", 1).append("name", "a");
+        byte[] record = binary.toBytes();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        assertEquals("{\"id\":1,\"name\":\"a\"}", binary.toString());
+        assertEquals("{\"id\":1,\"name\":\"a\"}", binary.toString());
+        assertArrayEquals(record, binary.toBytes());
+        binary.writeTo(stream);
+        binary.writeTo(stream);
+        assertEquals(record.length * 2, stream.size());
+    }
+
+    @Test
+    void startsANewRecordForTheNextObject() {
+        BinaryToStringStyle binary = BinaryToStringStyle.of();
+        ToStringBuilder.costumeStyle(binary).append("id", 1).build();
+        ToStringBuilder.costumeStyle(binary).append("id", 2);
+
+        assertEquals("{\"id\":2}", BinaryToStringDecoder.toJson(binary.toBytes()));
+    }
+
+    @Test
+    void rejectsMalformedRecords() {
+        BinaryToStringStyle binary = BinaryToStringStyle.of();
+        ToStringBuilder.costumeStyle(binary).append("name", "abc");
+        byte[] record = binary.toBytes();
+        byte[] truncated = Arrays.copyOf(record, record.length - 1);
+        byte[] unknownVersion = record.clone();
+        unknownVersion[0]++;
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryToStringDecoder.toJson(truncated));
+        assertThrows(IllegalArgumentException.class, () -> BinaryToStringDecoder.toJson(unknownVersion));
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryToStringDecoder.decode(record, 1, record.length, JsonToStringStyle.of()));
+    }
+
+    static final class Record {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldNamePrefixesTest {
+
+    @Test
+    void escapesFieldNamesOfStylesNotUsingPrefixes() {
+        // caches the raw prefix of the field in the shared default style
+        ToStringBuilder.defaultStyle(Tag.class).append("a<b", 1).toString();
+
+        String toString = ToStringBuilder.costumeStyle(new XmlToStringStyle()).append("a<b", 1)
+                .append("c&d", "<>").toString();
+
+        assertEquals("Tag('a&lt;b'=1,'c&amp;d'='&lt;&gt;')", toString);
+    }
+
+    @Test
+    void appendsCachedPrefixesOfDefaultAndJsonStyles() {
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Tag('a<b'=1)", ToStringBuilder.defaultStyle(Tag.class).append("a<b", 1).toString());
+            assertEquals("{\"a<b\":1,\"q\\\"\":2}",
+                    ToStringBuilder.jsonStyle().append("a<b", 1).append("q\"", 2).toString());
+        }
+    }
+
+    static final class Tag {
+    }
+
+    /**
+     * Escapes the text as XML, which the cached prefixes know nothing about.
+     */
+    static final class XmlToStringStyle extends AbstractToStringStyleStrategy {
+
+        XmlToStringStyle() {
+            super("Tag", ToStringStyle.DEFAULT, DEFAULT_CAPACITY);
+        }
+
+        @Override
+        protected boolean usesFieldNamePrefixes() {
+            return false;
+        }
+
+        @Override
+        protected void appendText(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                appendText(text.charAt(i));
+            }
+        }
+
+        @Override
+        protected void appendText(char text) {
+            switch (text) {
+                case '<' -> super.appendText("&lt;");
+                case '>' -> super.appendText("&gt;");
+                case '&' -> super.appendText("&amp;");
+                default -> super.appendText(text);
+            }
+        }
+
+        @Override
+        public void append(String fieldName, boolean value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, boolean[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, byte value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, byte[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, char value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, char[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, short value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, short[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, int value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, int[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, long value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, long[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, float value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, float[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, double value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, double[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, String value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, String[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, Date value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, Date[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, TemporalAccessor value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public void append(String fieldName, TemporalAccessor[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public <T> void append(String fieldName, Collection<T> values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+
+        @Override
+        public void append(String fieldName, Enum<?> value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public <T> void append(String fieldName, T value) {
+            appendFieldNames(fieldName);
+            appendValues(value);
+        }
+
+        @Override
+        public <T> void append(String fieldName, T[] values) {
+            appendFieldNames(fieldName);
+            appendValues(values);
+        }
+    }
+}
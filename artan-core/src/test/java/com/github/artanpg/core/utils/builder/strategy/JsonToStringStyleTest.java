@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonToStringStyleTest {
+
+    @Test
+    void escapesStringValues() {
+        String toString = ToStringBuilder.jsonStyle()
+                .append("text", "a\"b\\c/\b\f\n\r\t\u0000\u001f\u007f")
+                .toString();
+
+        assertEquals("{\"text\":\"a\\\"b\\\\c/\\b\\f\\n\\r\\t\\u0000\\u001f\u007f\"}", toString);
+    }
+
+    @Test
+    void escapesFieldNamesAndCharacters() {
+        String toString = ToStringBuilder.jsonStyle()
+                .append("we\"ird", '\\')
+                .append("chars", new char[]{'"', '\n'})
+                .toString();
+
+        assertEquals("{\"we\\\"ird\":\"\\\\\",\"chars\":[\"\\\"\",\"\\n\"]}", toString);
+    }
+
+    @Test
+    void escapesElementsOfArraysAndCollections() {
+        String toString = ToStringBuilder.jsonStyle()
+                .append("array", new String[]{"\"", null})
+                .append("list", List.of("\t"))
+                .toString();
+
+        assertEquals("{\"array\":[\"\\\"\",null],\"list\":[\"\\t\"]}", toString);
+    }
+
+    @Test
+    void keepsNonAsciiText() {
+        String toString = ToStringBuilder.jsonStyle().append("name", "\u00e9\u0627\ud83d\ude00").toString();
+
+        assertEquals("{\"name\":\"\u00e9\u0627\ud83d\ude00\"}", toString);
+    }
+
+    @Test
+    void rejectsMissingFieldName() {
+        assertThrows(IllegalArgumentException.class, () -> ToStringBuilder.jsonStyle().append(null, 1));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StructuredToStringStyleTest {
+
+    @Test
+    void forwardsTypedFieldsToTheSink() {
+        RecordingSink sink = new RecordingSink();
+
+        String toString = ToStringBuilder.structuredStyle(Order.class, sink)
+                .append("paid", true)
+                .append("grade", 'A')
+                .append("count", (short) 3)
+                .append("id", 42L)
+                .append("rate", 0.5f)
+                .append("amount", 12.25)
+                .append("note", "n")
+                .append("day", LocalDate.of(2024, 1, 2))
+                .build();
+
+        assertEquals("", toString);
+        assertEquals(List.of("start Order", "boolean paid=true", "char grade=A", "int count=3", "long id=42",
+                "float rate=0.5", "double amount=12.25", "string note=n", "object day=2024-01-02", "end"),
+                sink.events);
+    }
+
+    @Test
+    void forwardsArraysAndCollectionsAsTheyAre() {
+        RecordingSink sink = new RecordingSink();
+        int[] codes = {1, 2};
+        List<String> tags = List.of("a");
+
+        ToStringBuilder.structuredStyle(Order.class, sink).append("codes", codes).append("tags", tags).build();
+
+        assertSame(codes, sink.values.get(0));
+        assertSame(tags, sink.values.get(1));
+    }
+
+    @Test
+    void reusesTheStrategyForManyObjects() {
+        RecordingSink sink = new RecordingSink();
+        StructuredToStringStyle style = StructuredToStringStyle.of(sink);
+
+        ToStringBuilder.costumeStyle(style).append("a", 1).build();
+        ToStringBuilder.costumeStyle(style).appendSuper("Base(x)").build();
+
+        assertEquals(List.of("start null", "int a=1", "end", "start null", "super Base(x)", "end"), sink.events);
+    }
+
+    @Test
+    void rejectsMissingSink() {
+        assertThrows(IllegalArgumentException.class, () -> StructuredToStringStyle.of(null));
+    }
+
+    static final class Order {
+    }
+
+    static final class RecordingSink implements ToStringSink {
+
+        private final List<String> events = new ArrayList<>();
+
+        private final List<Object> values = new ArrayList<>();
+
+        @Override
+        public void onStart(String className) {
+            events.add("start " + className);
+        }
+
+        @Override
+        public void onBoolean(String fieldName, boolean value) {
+            events.add("boolean " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onChar(String fieldName, char value) {
+            events.add("char " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onInt(String fieldName, int value) {
+            events.add("int " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onLong(String fieldName, long value) {
+            events.add("long " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onFloat(String fieldName, float value) {
+            events.add("float " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onDouble(String fieldName, double value) {
+            events.add("double " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onString(String fieldName, String value) {
+            events.add("string " + fieldName + "=" + value);
+        }
+
+        @Override
+        public void onObject(String fieldName, Object value) {
+            events.add("object " + fieldName + "=" + value);
+            values.add(value);
+        }
+
+        @Override
+        public void onToString(String toString) {
+            events.add("super " + toString);
+        }
+
+        @Override
+        public void onEnd() {
+            events.add("end");
+        }
+    }
+}
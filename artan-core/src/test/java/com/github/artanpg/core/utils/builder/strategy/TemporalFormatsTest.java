@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TemporalFormatsTest {
+
+    private static final long MIN_SECOND = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+
+    private static final long MAX_SECOND = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+
+    @Test
+    void formatsJavaTimeLikeToString() {
+        Random random = new Random(7);
+        ZoneId zone = ZoneId.of("Asia/Tehran");
+        for (int i = 0; i < 20_000; i++) {
+            long epochSecond = MIN_SECOND + (long) (random.nextDouble() * (MAX_SECOND - MIN_SECOND));
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano(random));
+            LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800);
+
+            assertFormatted(instant);
+            assertFormatted(dateTime);
+            assertFormatted(dateTime.toLocalDate());
+            assertFormatted(dateTime.toLocalTime());
+            assertFormatted(OffsetDateTime.of(dateTime, offset));
+            assertFormatted(OffsetTime.of(dateTime.toLocalTime(), offset));
+            assertFormatted(ZonedDateTime.of(dateTime, zone));
+        }
+    }
+
+    @Test
+    void formatsYearsOutsideFourDigits() {
+        assertFormatted(LocalDate.of(-44, 3, 15));
+        assertFormatted(LocalDate.of(12_345, 1, 1));
+        assertFormatted(LocalTime.of(10, 0));
+    }
+
+    @Test
+    void formatsDatesAsUtcInstants() {
+        assertEquals("1970-01-01T00:00:00Z", format(new Date(0)));
+        assertEquals("1969-12-31T23:59:59.999Z", format(new Date(-1)));
+        assertEquals("1970-01-01T00:00:00Z", format(new java.sql.Date(0)));
+        assertEquals("1970-01-01T00:00:00Z", format(new Timestamp(0)));
+
+        Timestamp timestamp = new Timestamp(-1500);
+        timestamp.setNanos(123_456_789);
+        assertEquals(timestamp.toInstant().toString(), format(timestamp));
+    }
+
+    @Test
+    void leavesDatesOutOfRangeToToString() {
+        Date date = Date.from(Instant.parse("+10000-01-01T00:00:00Z"));
+
+        assertFalse(TemporalFormats.format(date, new StringBuilder()));
+    }
+
+    private static int nano(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(1000) * 1_000_000;
+            case 2 -> random.nextInt(1_000_000) * 1000;
+            default -> random.nextInt(1_000_000_000);
+        };
+    }
+
+    private static void assertFormatted(TemporalAccessor value) {
+        StringBuilder builder = new StringBuilder();
+        TemporalFormats.format(value, builder);
+        assertEquals(value.toString(), builder.toString());
+    }
+
+    private static String format(Date value) {
+        StringBuilder builder = new StringBuilder();
+        TemporalFormats.format(value, builder);
+        return builder.toString();
+    }
+}
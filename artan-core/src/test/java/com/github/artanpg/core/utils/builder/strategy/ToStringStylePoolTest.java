@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ToStringStylePoolTest {
+
+    @Test
+    void recyclesReleasedStrategy() {
+        ToStringStylePool pool = ToStringStylePool.of(() -> DefaultToStringStyle.of(Person.class), 1, 1024);
+        AbstractToStringStyleStrategy strategy = pool.acquire();
+        pool.release(strategy);
+
+        assertSame(strategy, pool.acquire());
+    }
+
+    @Test
+    void resetsMutatedStrategyOnRelease() {
+        ToStringStylePool pool = ToStringStylePool.of(() -> DefaultToStringStyle.of(Person.class), 1, 1024);
+        AbstractToStringStyleStrategy strategy = pool.acquire();
+        strategy.setUseFieldNames(false);
+        strategy.setClassName("Other");
+        strategy.setTarget(new StringWriter());
+        pool.release(strategy);
+
+        AbstractToStringStyleStrategy recycled = pool.acquire();
+        assertSame(ToStringStyle.DEFAULT, recycled.getStyle());
+        assertEquals("Person", recycled.getClassName());
+        assertNull(recycled.getTarget());
+    }
+
+    @Test
+    void buildsWithPooledStyles() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Person('name'='Ali')",
+                    ToStringBuilder.pooledDefaultStyle(Person.class).append("name", "Ali").toString());
+            assertEquals("{\"name\":\"Ali\"}", ToStringBuilder.pooledJsonStyle().append("name", "Ali").toString());
+        }
+    }
+
+    @Test
+    void rejectsBuilderUsedAfterReleasingItsStrategy() {
+        ToStringStylePool pool = ToStringStylePool.of(JsonToStringStyle::of, 1, 1024);
+        ToStringBuilder builder = ToStringBuilder.pooledStyle(pool).append("name", "Ali");
+        builder.toString();
+        ToStringBuilder other = ToStringBuilder.pooledStyle(pool).append("id", 1);
+
+        assertThrows(IllegalStateException.class, builder::toString);
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.append("age", 30));
+        assertEquals("{\"id\":1}", other.toString());
+    }
+
+    @Test
+    void dropsGrownBufferOnRelease() {
+        ToStringStylePool pool = ToStringStylePool.of(JsonToStringStyle::of, 1, 64);
+        ToStringBuilder.pooledStyle(pool).append("values", new int[1000]).toString();
+
+        assertEquals(AbstractToStringStyleStrategy.DEFAULT_CAPACITY, pool.acquire().getBuilder().capacity());
+    }
+
+    static final class Person {
+    }
+}
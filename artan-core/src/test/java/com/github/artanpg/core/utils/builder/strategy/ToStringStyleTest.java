@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ToStringStyleTest {
+
+    @Test
+    void writesJsonStylesWithTheJsonStrategy() {
+        ToStringStyle style = ToStringStyle.JSON.toBuilder().arraySummary(ArraySummary.of(1, 1)).build();
+
+        String toString = ToStringBuilder.costumeStyle(Person.class, style)
+                .append("na\"me", "a\nb")
+                .append("ids", new int[]{1, 2, 3})
+                .toString();
+
+        assertTrue(style.isJson());
+        assertEquals("{\"na\\\"me\":\"a\\nb\",\"ids\":[1,\"...1 more\",3]}", toString);
+    }
+
+    @Test
+    void writesOtherStylesWithTheClassName() {
+        ToStringStyle style = ToStringStyle.builder().stringStarter("[").stringTerminator("]").build();
+
+        String toString = ToStringBuilder.costumeStyle(Person.class, style).append("name", "Ali").toString();
+
+        assertFalse(style.isJson());
+        assertFalse(ToStringStyle.JSON.toBuilder().useFieldNames(false).build().isJson());
+        assertEquals("Person['name'='Ali']", toString);
+    }
+
+    @Test
+    void sharesThePrefixesUntilTheirSymbolsChange() {
+        ToStringStyle limited = ToStringStyle.DEFAULT.toBuilder().limits(ToStringLimits.defaults()).build();
+        ToStringStyle same = ToStringStyle.DEFAULT.toBuilder().contentStarter("'").build();
+        ToStringStyle quoted = ToStringStyle.DEFAULT.toBuilder().contentStarter("\"").contentTerminator("\"").build();
+
+        assertSame(ToStringStyle.DEFAULT.prefixes(), limited.prefixes());
+        assertSame(ToStringStyle.DEFAULT.prefixes(), same.prefixes());
+        assertNotSame(ToStringStyle.DEFAULT.prefixes(), quoted.prefixes());
+    }
+
+    @Test
+    void keepsTheStyleWhenASetterDoesNotChangeIt() {
+        DefaultToStringStyle strategy = DefaultToStringStyle.of(Person.class);
+        strategy.setUseFieldNames(true);
+        strategy.setContentSeparator("=");
+        strategy.setLimits(null);
+
+        assertSame(ToStringStyle.DEFAULT, strategy.getStyle());
+
+        strategy.setArraySummary(ArraySummary.lengthOnly());
+
+        assertSame(ToStringStyle.DEFAULT.prefixes(), strategy.getStyle().prefixes());
+        assertThrows(IllegalArgumentException.class, () -> strategy.setStringStarter(null));
+    }
+
+    static final class Person {
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder.strategy;
+
+import com.github.artanpg.core.utils.builder.ToStringBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Utf8JsonToStringStyleTest {
+
+    private static final String TEXT = "Ali \u00e9 \u0627 \ud83d\ude00 \"q\" \\ \n\u0001";
+
+    @Test
+    void encodesSameOutputAsJsonStyle() {
+        Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of(4);
+        appendAll(ToStringBuilder.costumeStyle(utf8));
+        String json = appendAll(ToStringBuilder.jsonStyle()).toString();
+
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), utf8.toBytes());
+    }
+
+    @Test
+    void writesToBufferAndStream() {
+        Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of();
+        ToStringBuilder.costumeStyle(utf8).append("name", TEXT);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        utf8.writeTo(buffer);
+
+        ToStringBuilder.costumeStyle(utf8).append("name", TEXT);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        utf8.writeTo(stream);
+
+        byte[] expected = ToStringBuilder.jsonStyle().append("name", TEXT).toString()
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] written = new byte[buffer.flip().remaining()];
+        buffer.get(written);
+        assertArrayEquals(expected, written);
+        assertArrayEquals(expected, stream.toByteArray());
+    }
+
+    @Test
+    void encodesNestedContainersSameAsJsonStyle() {
+        Object[] cyclic = new Object[2];
+        cyclic[0] = 1;
+        cyclic[1] = cyclic;
+        Object[] nested = {new int[]{1}, List.of(new long[]{2}, List.of("a")), new Object[]{new char[]{'b'}}, null};
+        Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of();
+        ToStringBuilder.costumeStyle(utf8).append("nested", nested).append("cyclic", cyclic);
+        String json = ToStringBuilder.jsonStyle().append("nested", nested).append("cyclic", cyclic).toString();
+
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), utf8.toBytes());
+    }
+
+    @Test
+    void keepsToStringWhenBufferOverflows() {
+        Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of();
+        ToStringBuilder.costumeStyle(utf8).append("name", TEXT);
+        ByteBuffer small = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> utf8.writeTo(small));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        utf8.writeTo(buffer);
+
+        byte[] expected = ToStringBuilder.jsonStyle().append("name", TEXT).toString()
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] written = new byte[buffer.flip().remaining()];
+        buffer.get(written);
+        assertEquals(0, small.position());
+        assertArrayEquals(expected, written);
+    }
+
+    @Test
+    void rejectsMissingFieldName() {
+        Utf8JsonToStringStyle utf8 = Utf8JsonToStringStyle.of();
+        utf8.appendStarter();
+
+        assertThrows(IllegalArgumentException.class, () -> utf8.append(null, 1));
+    }
+
+    private static ToStringBuilder appendAll(ToStringBuilder builder) {
+        return builder.append("name", TEXT)
+                .append("flag", true)
+                .append("min", Long.MIN_VALUE)
+                .append("count", -5)
+                .append("ratio", 1.5d)
+                .append("scale", 0.1f)
+                .append("bytes", new byte[]{1, -1})
+                .append("chars", new char[]{'a', '"', '\u00e9'})
+                .append("date", new Date(0))
+                .append("day", LocalDate.of(2024, 2, 29))
+                .append("list", List.of("x", 1))
+                .append("missing", (String) null)
+                .append("quote", '"');
+    }
+}
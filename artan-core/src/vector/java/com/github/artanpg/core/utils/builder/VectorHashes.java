@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.core.utils.builder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code polynomial} functions of {@link Hashes} on the incubating
+ * Vector API, giving the same results as {@link java.util.Arrays#hashCode}.
+ * <p>Each lane keeps the polynomial of every n-th element, multiplied by
+ * {@code 31^n} per step, and the lanes are summed by their powers of
+ * {@code 31} at the end. The elements left after the last full vector are
+ * added one by one.
+ * <p>The lanes are laid out for vectors of 256 bits, eight {@code int} or
+ * four {@code long} values, so they are used only where the preferred
+ * species of the platform is at least that wide; on narrower vectors the
+ * shapes would be emulated, slower than the scalar code of {@link Hashes}.
+ * <p>This class links against {@code jdk.incubator.vector}, so it is
+ * compiled only by the {@code vector} profile of the build, and loaded by
+ * {@link Hashes} only when that module is in the boot layer.
+ *
+ * @author Mohammad Yazdian
+ */
+final class VectorHashes implements PolynomialHashes {
+
+    private static final VectorSpecies<Integer> INTS_8 = IntVector.SPECIES_256;
+
+    private static final VectorSpecies<Integer> INTS_4 = IntVector.SPECIES_128;
+
+    private static final VectorSpecies<Byte> BYTES_8 = ByteVector.SPECIES_64;
+
+    private static final VectorSpecies<Short> SHORTS_8 = ShortVector.SPECIES_128;
+
+    private static final VectorSpecies<Float> FLOATS_8 = FloatVector.SPECIES_256;
+
+    private static final VectorSpecies<Long> LONGS_4 = LongVector.SPECIES_256;
+
+    private static final VectorSpecies<Double> DOUBLES_4 = DoubleVector.SPECIES_256;
+
+    private static final int POW_4 = 31 * 31 * 31 * 31;
+
+    private static final int POW_8 = POW_4 * POW_4;
+
+    private static final IntVector POWERS_8 = IntVector.fromArray(INTS_8,
+            new int[]{POW_4 * 31 * 31 * 31, POW_4 * 31 * 31, POW_4 * 31, POW_4, 31 * 31 * 31, 31 * 31, 31, 1}, 0);
+
+    private static final IntVector POWERS_4 = IntVector.fromArray(INTS_4, new int[]{31 * 31 * 31, 31 * 31, 31, 1}, 0);
+
+    private VectorHashes() {
+    }
+
+    /**
+     * Returns the vector hashes, if the preferred species of the platform
+     * holds the lanes of this class natively.
+     *
+     * @return the vector hashes, or {@code null} if the vectors of the
+     * platform are narrower than 256 bits
+     */
+    static PolynomialHashes ofPreferredSpecies() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= INTS_8.vectorBitSize() ? new VectorHashes() : null;
+    }
+
+    @Override
+    public int polynomial(boolean[] values) {
+        int length = values.length;
+        int bound = BYTES_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            IntVector bits = (IntVector) ByteVector.fromBooleanArray(BYTES_8, values, i)
+                    .convertShape(VectorOperators.B2I, INTS_8, 0);
+            sums = sums.mul(POW_8).add(bits.mul(-6).add(1237));
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + (values[i] ? 1231 : 1237);
+        }
+        return hash;
+    }
+
+    @Override
+    public int polynomial(byte[] values) {
+        int length = values.length;
+        int bound = BYTES_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            sums = sums.mul(POW_8).add(ByteVector.fromArray(BYTES_8, values, i)
+                    .convertShape(VectorOperators.B2I, INTS_8, 0));
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public int polynomial(char[] values) {
+        int length = values.length;
+        int bound = SHORTS_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            IntVector chars = (IntVector) ShortVector.fromCharArray(SHORTS_8, values, i)
+                    .convertShape(VectorOperators.S2I, INTS_8, 0);
+            sums = sums.mul(POW_8).add(chars.and(0xFFFF));
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public int polynomial(short[] values) {
+        int length = values.length;
+        int bound = SHORTS_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            sums = sums.mul(POW_8).add(ShortVector.fromArray(SHORTS_8, values, i)
+                    .convertShape(VectorOperators.S2I, INTS_8, 0));
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public int polynomial(int[] values) {
+        int length = values.length;
+        int bound = INTS_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            sums = sums.mul(POW_8).add(IntVector.fromArray(INTS_8, values, i));
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Folds every {@code long} to its {@link Long#hashCode(long)}, the
+     * exclusive or of its two halves, before adding it to the lanes.
+     */
+    @Override
+    public int polynomial(long[] values) {
+        int length = values.length;
+        int bound = LONGS_4.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_4);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 4) {
+            sums = sums.mul(POW_4).add(fold(LongVector.fromArray(LONGS_4, values, i)));
+            hash *= POW_4;
+        }
+        hash += sums.mul(POWERS_4).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + Long.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Replaces the bits of every {@code NaN} with those of
+     * {@link Float#NaN}, as {@link Float#floatToIntBits(float)} does.
+     */
+    @Override
+    public int polynomial(float[] values) {
+        int length = values.length;
+        int bound = FLOATS_8.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_8);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 8) {
+            FloatVector floats = FloatVector.fromArray(FLOATS_8, values, i);
+            IntVector bits = floats.reinterpretAsInts()
+                    .blend(Float.floatToIntBits(Float.NaN), floats.test(VectorOperators.IS_NAN).cast(INTS_8));
+            sums = sums.mul(POW_8).add(bits);
+            hash *= POW_8;
+        }
+        hash += sums.mul(POWERS_8).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + Float.floatToIntBits(values[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Replaces the bits of every {@code NaN} with those of
+     * {@link Double#NaN}, as {@link Double#doubleToLongBits(double)} does,
+     * and folds them as {@link #polynomial(long[])}.
+     */
+    @Override
+    public int polynomial(double[] values) {
+        int length = values.length;
+        int bound = DOUBLES_4.loopBound(length);
+        IntVector sums = IntVector.zero(INTS_4);
+        int hash = 1;
+        for (int i = 0; i < bound; i += 4) {
+            DoubleVector doubles = DoubleVector.fromArray(DOUBLES_4, values, i);
+            LongVector bits = doubles.reinterpretAsLongs()
+                    .blend(Double.doubleToLongBits(Double.NaN), doubles.test(VectorOperators.IS_NAN).cast(LONGS_4));
+            sums = sums.mul(POW_4).add(fold(bits));
+            hash *= POW_4;
+        }
+        hash += sums.mul(POWERS_4).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            hash = 31 * hash + Double.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    private static IntVector fold(LongVector values) {
+        return (IntVector) values.lanewise(VectorOperators.XOR, values.lanewise(VectorOperators.LSHR, 32))
+                .convertShape(VectorOperators.L2I, INTS_4, 0);
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Generates the {@code toString}, {@code equals} and {@code hashCode} of the
+ * classes annotated with {@code @ArtanValue} as straight-line calls to the
+ * builders of {@code artan-core}.
+ * <p>Each field is passed to the builders as an expression of its declared
+ * type, so the compiler selects the matching primitive or array overload and
+ * the generated code involves no reflection at runtime. The fields are
+ * compared in {@code equals} from the cheapest to the most expensive, ranked
+ * by the same categories as the reflective {@code EqualsBuilder}: primitives,
+ * then enums, strings, dates and temporals, then arrays and collections, then
+ * any other object, boxed primitives included.
+ * <p>A type which the generated class cannot name, such as a private nested
+ * class or a local class, is reported as a compile error.
+ *
+ * @author Mohammad Yazdian
+ */
+@SupportedAnnotationTypes(ArtanValueProcessor.ANNOTATION)
+public class ArtanValueProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.github.artanpg.core.utils.builder.ArtanValue";
+
+    private static final String BUILDER_PACKAGE = "com.github.artanpg.core.utils.builder.";
+
+    private static final String SUFFIX = "Artan";
+
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                    error(element, "@ArtanValue can only be applied to a class or a record");
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                if (isAccessible(type)) {
+                    generate(type);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        List<Property> properties = properties(type);
+        if (Objects.isNull(properties)) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String className = generatedName(type);
+        String typeName = type.getQualifiedName().toString();
+        String valueType = parameterizedName(type);
+
+        StringBuilder source = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * The {@code toString}, {@code equals} and {@code hashCode} of {@link ")
+                .append(typeName).append("},\n")
+                .append(" * generated by {@code ").append(ArtanValueProcessor.class.getName()).append("}.\n")
+                .append(" */\n")
+                .append("final class ").append(className).append(" {\n\n")
+                .append(INDENT).append("private ").append(className).append("() {\n")
+                .append(INDENT).append(INDENT).append("throw new UnsupportedOperationException(")
+                .append("\"This is a utility class and cannot be instantiated\");\n")
+                .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("static String toString(").append(valueType).append(" value) {\n")
+                .append(INDENT).append(INDENT).append("return ").append(BUILDER_PACKAGE)
+                .append("ToStringBuilder.defaultStyle(").append(typeName).append(".class)\n");
+        for (Property property : properties) {
+            appendCall(source, "append(\"" + property.name + "\", value." + property.accessor + ")");
+        }
+        appendCall(source, "build();");
+        source.append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("static boolean equals(").append(valueType).append(" value, Object other) {\n")
+                .append(INDENT).append(INDENT).append("if (value == other) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return true;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append("if (other == null || other.getClass() != value.getClass()) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return false;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append(valueType).append(" that = (").append(valueType)
+                .append(") other;\n")
+                .append(INDENT).append(INDENT).append("return ").append(BUILDER_PACKAGE).append("EqualsBuilder.of()\n");
+        List<Property> byCost = new ArrayList<>(properties);
+        byCost.sort(Comparator.comparingInt(property -> property.cost));
+        for (Property property : byCost) {
+            appendCall(source, "append(value." + property.accessor + ", that." + property.accessor + ")");
+        }
+        appendCall(source, "build();");
+        source.append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("static int hashCode(").append(valueType).append(" value) {\n")
+                .append(INDENT).append(INDENT).append("return ").append(BUILDER_PACKAGE)
+                .append("HashCodeBuilder.of()\n");
+        for (Property property : properties) {
+            appendCall(source, "append(value." + property.accessor + ")");
+        }
+        appendCall(source, "toHashCode();");
+        source.append(INDENT).append("}\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves how each instance field of the type is read, or returns
+     * {@code null} if a private field has no accessor.
+     */
+    private List<Property> properties(TypeElement type) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        List<Property> properties = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String accessor = name;
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                ExecutableElement method = findAccessor(type, field, methods);
+                if (Objects.isNull(method)) {
+                    error(field, "The private field '" + name + "' has no accessor, "
+                            + "make it package-private or add a getter");
+                    valid = false;
+                    continue;
+                }
+                accessor = method.getSimpleName() + "()";
+            }
+            int cost = cost(field, field.asType());
+            if (cost < 0) {
+                valid = false;
+                continue;
+            }
+            properties.add(new Property(name, accessor, cost));
+        }
+        return valid ? properties : null;
+    }
+
+    private ExecutableElement findAccessor(TypeElement type, VariableElement field, List<ExecutableElement> methods) {
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : methods) {
+            String methodName = method.getSimpleName().toString();
+            boolean matches = methodName.equals("get" + capitalized)
+                    || (methodName.equals("is" + capitalized) && field.asType().getKind() == TypeKind.BOOLEAN)
+                    || (methodName.equals(name) && type.getKind() == ElementKind.RECORD);
+            if (matches && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the generated class, a top-level class of the same
+     * package, can name the type, or reports a compile error otherwise.
+     */
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement enclosed) {
+            if (enclosed.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "@ArtanValue cannot be applied to a private class or a class nested in one");
+                return false;
+            }
+            element = enclosed.getEnclosingElement();
+        }
+        if (element.getKind() != ElementKind.PACKAGE) {
+            error(type, "@ArtanValue cannot be applied to a local or an anonymous class");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the relative cost of comparing two values of the type, from
+     * {@code 0} for primitives to {@code 3} for arbitrary objects, or reports
+     * a compile error on the field and returns {@code -1} if the type is not
+     * supported.
+     */
+    private int cost(VariableElement field, TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE -> {
+                return 0;
+            }
+            case ARRAY -> {
+                return 2;
+            }
+            case TYPEVAR -> {
+                return cost(field, ((TypeVariable) type).getUpperBound());
+            }
+            case WILDCARD -> {
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+                return Objects.isNull(bound) ? 3 : cost(field, bound);
+            }
+            case INTERSECTION -> {
+                int cost = 3;
+                for (TypeMirror bound : ((IntersectionType) type).getBounds()) {
+                    int boundCost = cost(field, bound);
+                    if (boundCost < 0) {
+                        return boundCost;
+                    }
+                    cost = Math.min(cost, boundCost);
+                }
+                return cost;
+            }
+            case DECLARED -> {
+                return cost((DeclaredType) type);
+            }
+            case ERROR -> {
+                // the compiler reports the unresolved type itself
+                return 3;
+            }
+            default -> {
+                error(field, "The type " + type + " of the field '" + field.getSimpleName()
+                        + "' is not supported by @ArtanValue");
+                return -1;
+            }
+        }
+    }
+
+    private int cost(DeclaredType type) {
+        Element element = type.asElement();
+        if (element.getKind() == ElementKind.ENUM || isSubtype(type, "java.lang.String")
+                || isSubtype(type, "java.util.Date") || isSubtype(type, "java.time.temporal.TemporalAccessor")) {
+            return 1;
+        }
+        if (isSubtype(type, "java.util.Collection")) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private boolean isSubtype(TypeMirror type, String supertype) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(supertype);
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        Types types = processingEnv.getTypeUtils();
+        return types.isSubtype(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private static void appendCall(StringBuilder source, String call) {
+        source.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append('.').append(call).append('\n');
+    }
+
+    /**
+     * Returns the name of the generated class, with the names of the enclosing
+     * classes of a nested class joined by {@code _}.
+     */
+    private static String generatedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, '_').insert(0, enclosingType.getSimpleName());
+            enclosing = enclosingType.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    /**
+     * Returns the name of the type with a wildcard for each type parameter,
+     * including those of the enclosing classes of an inner class, such as
+     * {@code Outer<?>.Inner<?>}.
+     */
+    private static String parameterizedName(TypeElement type) {
+        Element enclosing = type.getEnclosingElement();
+        String name;
+        if (enclosing instanceof TypeElement enclosingType && !type.getModifiers().contains(Modifier.STATIC)
+                && type.getKind() == ElementKind.CLASS && enclosingType.getKind() == ElementKind.CLASS) {
+            name = parameterizedName(enclosingType) + "." + type.getSimpleName();
+        } else {
+            name = type.getQualifiedName().toString();
+        }
+        int count = type.getTypeParameters().size();
+        if (count == 0) {
+            return name;
+        }
+        return name + "<" + String.join(", ", Collections.nCopies(count, "?")) + ">";
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A field of the annotated type and the expression reading it.
+     */
+    private record Property(String name, String accessor, int cost) {
+    }
+}
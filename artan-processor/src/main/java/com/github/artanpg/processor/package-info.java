@@ -0,0 +1,5 @@
+/**
+ * Annotation processors that generate the {@code toString}, {@code equals} and
+ * {@code hashCode} implementations of the annotated classes at compile time.
+ */
+package com.github.artanpg.processor;
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.artanpg.processor;
+
+import com.github.artanpg.core.utils.builder.ArtanValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtanValueProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generatesDeepMethodsForNestedArraysAndCollections() throws Exception {
+        Compilation compilation = compile(Map.of("test/Grid.java", """
+                package test;
+
+                import com.github.artanpg.core.utils.builder.ArtanValue;
+                import java.util.List;
+
+                @ArtanValue
+                public class Grid {
+                    int[][] cells;
+                    Object[] labels;
+                    List<int[]> rows;
+
+                    public Grid(int[][] cells, Object[] labels, List<int[]> rows) {
+                        this.cells = cells;
+                        this.labels = labels;
+                        this.rows = rows;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return GridArtan.toString(this);
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return GridArtan.equals(this, other);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return GridArtan.hashCode(this);
+                    }
+                }
+                """));
+        assertTrue(compilation.errors().isEmpty(), compilation.errors()::toString);
+
+        Object lhs = compilation.newInstance("test.Grid",
+                new int[][]{{1, 2}, {3}}, new Object[]{new long[]{4L}, "a"}, List.of(new int[]{5}));
+        Object rhs = compilation.newInstance("test.Grid",
+                new int[][]{{1, 2}, {3}}, new Object[]{new long[]{4L}, "a"}, List.of(new int[]{5}));
+        Object other = compilation.newInstance("test.Grid",
+                new int[][]{{1, 2}, {4}}, new Object[]{new long[]{4L}, "a"}, List.of(new int[]{5}));
+
+        assertEquals(lhs, rhs);
+        assertEquals(lhs.hashCode(), rhs.hashCode());
+        assertNotEquals(lhs, other);
+        assertEquals("Grid('cells'={{1,2},{3}},'labels'={{4},'a'},'rows'={{5}})", lhs.toString());
+    }
+
+    @Test
+    void supportsGenericTypesAndTypeVariableFields() throws Exception {
+        Compilation compilation = compile(Map.of("test/Box.java", """
+                package test;
+
+                import com.github.artanpg.core.utils.builder.ArtanValue;
+                import java.io.Serializable;
+                import java.util.List;
+
+                @ArtanValue
+                public class Box<T, N extends Number & Comparable<N>, S extends CharSequence> {
+                    T value;
+                    N number;
+                    S text;
+                    List<? extends T> values;
+
+                    public Box(T value, N number, S text, List<? extends T> values) {
+                        this.value = value;
+                        this.number = number;
+                        this.text = text;
+                        this.values = values;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return BoxArtan.equals(this, other);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return BoxArtan.hashCode(this);
+                    }
+
+                    @ArtanValue
+                    public class Item<E extends Serializable> {
+                        E element;
+                        T owner;
+
+                        public Item(E element, T owner) {
+                            this.element = element;
+                            this.owner = owner;
+                        }
+
+                        @Override
+                        public String toString() {
+                            return Box_ItemArtan.toString(this);
+                        }
+                    }
+                }
+                """));
+        assertTrue(compilation.errors().isEmpty(), compilation.errors()::toString);
+
+        Object lhs = compilation.newInstance("test.Box", "a", 1, "b", List.of("c"));
+        Object rhs = compilation.newInstance("test.Box", "a", 1, "b", List.of("c"));
+
+        assertEquals(lhs, rhs);
+        assertEquals(lhs.hashCode(), rhs.hashCode());
+        assertNotEquals(lhs, compilation.newInstance("test.Box", "a", 2, "b", List.of("c")));
+        assertTrue(compilation.generatedSource("test/Box_ItemArtan.java").contains("test.Box<?, ?, ?>.Item<?>"));
+    }
+
+    @Test
+    void comparesFieldsFromTheCheapest() throws Exception {
+        Compilation compilation = compile(Map.of("test/Order.java", """
+                package test;
+
+                import com.github.artanpg.core.utils.builder.ArtanValue;
+                import java.util.List;
+
+                @ArtanValue
+                public record Order(Object note, List<String> items, Integer count, String code, long id) {
+                }
+                """));
+        assertTrue(compilation.errors().isEmpty(), compilation.errors()::toString);
+
+        String source = compilation.generatedSource("test/OrderArtan.java");
+        String equals = source.substring(source.indexOf("static boolean equals"),
+                source.indexOf("static int hashCode"));
+        List<Integer> positions = new ArrayList<>();
+        for (String field : List.of("id()", "code()", "items()", "note()", "count()")) {
+            positions.add(equals.indexOf("value." + field));
+        }
+
+        assertEquals(positions.stream().sorted().toList(), positions);
+    }
+
+    @Test
+    void reportsPrivateNestedClasses() throws IOException {
+        Compilation compilation = compile(Map.of("test/Outer.java", """
+                package test;
+
+                import com.github.artanpg.core.utils.builder.ArtanValue;
+
+                public class Outer {
+
+                    @ArtanValue
+                    private static class Hidden {
+                        int value;
+                    }
+
+                    private static class Holder {
+
+                        @ArtanValue
+                        static class Inner {
+                            int value;
+                        }
+                    }
+                }
+                """));
+
+        assertEquals(2, compilation.errors().size(), compilation.errors()::toString);
+        assertTrue(compilation.errors().stream().allMatch(error -> error.contains("private class")));
+    }
+
+    @Test
+    void reportsPrivateFieldsWithoutAccessor() throws IOException {
+        Compilation compilation = compile(Map.of("test/Secret.java", """
+                package test;
+
+                import com.github.artanpg.core.utils.builder.ArtanValue;
+
+                @ArtanValue
+                public class Secret {
+                    private int value;
+                    private String name;
+
+                    public String getName() {
+                        return name;
+                    }
+                }
+                """));
+
+        assertEquals(1, compilation.errors().size(), compilation.errors()::toString);
+        assertTrue(compilation.errors().get(0).contains("'value'"));
+    }
+
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+        Path generatedDirectory = Files.createDirectories(directory.resolve("generated"));
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = sourceDirectory.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            List<String> options = List.of("-classpath", location(ArtanValue.class),
+                    "-d", classDirectory.toString(), "-s", generatedDirectory.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new ArtanValueProcessor()));
+            task.call();
+        }
+        List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .toList();
+        ClassLoader loader = new URLClassLoader(new URL[]{classDirectory.toUri().toURL()},
+                ArtanValueProcessorTest.class.getClassLoader());
+        return new Compilation(loader, generatedDirectory, errors);
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Compilation(ClassLoader loader, Path generatedDirectory, List<String> errors) {
+
+        Object newInstance(String className, Object... arguments) throws Exception {
+            Constructor<?> constructor = loader.loadClass(className).getConstructors()[0];
+            return constructor.newInstance(arguments);
+        }
+
+        String generatedSource(String path) throws IOException {
+            return Files.readString(generatedDirectory.resolve(path), StandardCharsets.UTF_8);
+        }
+    }
+}
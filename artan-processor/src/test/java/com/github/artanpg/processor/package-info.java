@@ -0,0 +1 @@
+package com.github.artanpg.processor;